@@ -0,0 +1,54 @@
+package com.example.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JWT 인증 비용.
+ * - legacyParserPerRequest : 기존 방식(요청마다 parserBuilder().build() + 서명 검증)
+ * - sharedParser           : 공유 파서 + 서명 검증(캐시 미스와 같은 비용)
+ * - cachedClaims           : 같은 토큰 재요청(검증 클레임 캐시 적중)
+ * 실행: ./gradlew jmh -PjmhInclude=JwtAuthBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthBenchmark {
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        byte[] secret = new byte[48];
+        new java.util.Random(42).nextBytes(secret);
+        String encoded = Base64.getEncoder().encodeToString(secret);
+        key = Keys.hmacShaKeyFor(secret);
+        jwtUtil = new JwtUtil(encoded, 3_600_000L, 10_000);
+        token = jwtUtil.createToken("user@example.com", Map.of("activityId", "user01", "role", "USER"));
+        jwtUtil.parseClaims(token); // 캐시 적재
+    }
+
+    @Benchmark
+    public Claims legacyParserPerRequest() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtUtil.parse(token).getBody();
+    }
+
+    @Benchmark
+    public Claims cachedClaims() {
+        return jwtUtil.parseClaims(token).orElseThrow();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.Comment;
+import com.example.backend.domain.Post;
+import com.example.backend.domain.Role;
+import com.example.backend.domain.User;
+import com.example.backend.domain.UserStatus;
+import com.example.backend.dto.CommentDtos.CommentRes;
+import com.example.backend.dto.CommentDtos.CommentRow;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 10,000개짜리 게시글 한 건의 목록 조회 비용(H2 인메모리, 실제 Hibernate 매핑).
+ * - entityGraph : 기존 방식(author+parent+post 를 fetch join 한 엔티티 → CommentRes)
+ * - projection  : CommentRepository.findLiveRowsByPostId 와 같은 DTO 프로젝션 → CommentRes
+ * 요청 1건(세션 열기~닫기)당 메모리는 -prof gc 의 gc.alloc.rate.norm(B/op).
+ * 실행: ./gradlew jmh -PjmhInclude=CommentListingBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CommentListingBenchmark {
+
+    private static final int COMMENTS = 10_000;
+
+    private static final String ENTITY_GRAPH = """
+            SELECT c FROM Comment c
+            LEFT JOIN FETCH c.author LEFT JOIN FETCH c.parent LEFT JOIN FETCH c.post
+            WHERE c.post.id = :postId AND c.deletedAt IS NULL
+            ORDER BY c.createdAt ASC
+            """;
+
+    private static final String PROJECTION = """
+            SELECT new com.example.backend.dto.CommentDtos$CommentRow(
+                c.id, c.post.id, c.parent.id, a.activityId, c.contentRaw, c.content, c.createdAt, c.depth, false)
+            FROM Comment c LEFT JOIN c.author a
+            WHERE c.post.id = :postId
+              AND c.deletedAt IS NULL
+            ORDER BY c.createdAt ASC, c.id ASC
+            """;
+
+    private SessionFactory sessions;
+    private Long postId;
+
+    @Setup
+    public void setup() {
+        sessions = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Post.class)
+                .addAnnotatedClass(Comment.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:comments;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create")
+                .setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .buildSessionFactory();
+
+        Random rnd = new Random(42);
+        // 엔티티 콜백(@PrePersist/@CreationTimestamp)이 필요하므로 일반 세션 + 주기적 flush/clear
+        try (Session s = sessions.openSession()) {
+            s.beginTransaction();
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                User u = User.builder().email("u" + i + "@example.com").activityId("user" + i)
+                        .passwordHash("x").role(Role.USER).status(UserStatus.ACTIVE).build();
+                s.persist(u);
+                users.add(u);
+            }
+            Post p = Post.builder().title("hot thread").excerpt("본문").author(users.get(0)).build();
+            s.persist(p);
+            postId = p.getId();
+
+            List<Comment> comments = new ArrayList<>(COMMENTS);
+            for (int i = 0; i < COMMENTS; i++) {
+                Comment parent = (i == 0 || rnd.nextInt(10) < 3) ? null : comments.get(rnd.nextInt(i));
+                Comment c = Comment.builder()
+                        .post(p)
+                        .author(users.get(rnd.nextInt(users.size())))
+                        .parent(parent)
+                        .content("<p>댓글 본문 " + i + " — " + "lorem ipsum ".repeat(20) + "</p>")
+                        .depth(parent == null ? 0 : Math.min(parent.getDepth() + 1, 3))
+                        .build();
+                s.persist(c);
+                comments.add(c);
+                if (i % 500 == 499) {
+                    s.flush();
+                    s.clear();
+                }
+            }
+            s.getTransaction().commit();
+        }
+
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessions.close();
+    }
+
+    @Benchmark
+    public List<CommentRes> entityGraph() {
+        try (Session s = sessions.openSession()) {
+            return entityGraphRows(s);
+        }
+    }
+
+    @Benchmark
+    public List<CommentRes> projection() {
+        try (Session s = sessions.openSession()) {
+            return projectionRows(s);
+        }
+    }
+
+    /* ===== helpers ===== */
+
+    private List<CommentRes> entityGraphRows(Session s) {
+        return s.createQuery(ENTITY_GRAPH, Comment.class).setParameter("postId", postId).getResultList()
+                .stream().map(c -> new CommentRes(
+                        c.getId(),
+                        c.getPost() != null ? c.getPost().getId() : null,
+                        c.getParent() != null ? c.getParent().getId() : null,
+                        c.getAuthor() != null ? c.getAuthor().getActivityId() : null,
+                        null,
+                        c.getContent(),
+                        c.getCreatedAt()))
+                .toList();
+    }
+
+    private List<CommentRes> projectionRows(Session s) {
+        return s.createQuery(PROJECTION, CommentRow.class).setParameter("postId", postId).getResultList()
+                .stream().map(r -> new CommentRes(
+                        r.id(), r.postId(), r.parentId(), r.authorActivityId(), null, r.contentHtml(), r.createdAt()))
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.backend.util;
+
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 작성/수정 1건당 본문 렌더 비용.
+ * - legacy       : 기존 경로(텍스트 escape 용 Document 셸 + safeHtml 2회, 마크다운 미해석)
+ * - flexmark     : 공유 파서/렌더러 + 정화 1회(캐시 미스)
+ * - flexmarkCached : 같은 본문 재렌더(내용 해시 캐시 적중)
+ * 실행: ./gradlew jmh -PjmhInclude=CommentRenderBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentRenderBenchmark {
+
+    /** typical: 한두 문단짜리 일반 댓글, long: 5000자 댓글 */
+    @Param({"typical", "long"})
+    public String size;
+
+    private String body;
+
+    @Setup
+    public void setup() {
+        String paragraph = "좋은 글 감사합니다. **특히** 두 번째 예시가 `도움`이 됐어요.\n"
+                + "다만 [링크](https://example.com)의 설명은 조금 _헷갈리네요_.\n\n";
+        if ("typical".equals(size)) {
+            body = paragraph;
+        } else {
+            StringBuilder sb = new StringBuilder(5200);
+            Random rnd = new Random(42);
+            while (sb.length() < 5000) {
+                sb.append(paragraph);
+                if (rnd.nextInt(4) == 0) sb.append("- 항목 ").append(rnd.nextInt(100)).append("\n- 다음 항목\n\n");
+            }
+            body = sb.substring(0, 5000);
+        }
+        MarkdownRenderer.render(body); // 캐시 적재
+    }
+
+    @Benchmark
+    public String legacy() {
+        Document shell = Document.createShell("");
+        shell.body().appendText(body);
+        String html = shell.body().html().replace("\n", "<br/>");
+        return HtmlSanitizer.safeHtml(HtmlSanitizer.safeHtml(html));
+    }
+
+    @Benchmark
+    public String flexmark() {
+        return MarkdownRenderer.renderUncached(body);
+    }
+
+    @Benchmark
+    public String flexmarkCached() {
+        return MarkdownRenderer.render(body);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.backend.util;
+
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마크업 없는 평문 댓글 1건의 HTML 변환 비용.
+ * - legacyTextToSafeHtml : 기존 textToSafeHtml(Document 셸 + 직렬화 + replace) + safeHtml 재정화
+ * - escaper              : PlainTextEscaper.escape 단일 패스
+ * - flexmark             : 마크다운 경로(파서 + 정화 1회)
+ * - paragraphs           : 평문 빠른 경로(MarkdownRenderer 가 실제로 타는 경로)
+ * 실행: ./gradlew jmh -PjmhInclude=PlainTextBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlainTextBenchmark {
+
+    /** typical: 두세 줄짜리 댓글, long: 5000자 */
+    @Param({"typical", "long"})
+    public String size;
+
+    private String body;
+
+    @Setup
+    public void setup() {
+        String paragraph = "좋은 글 감사합니다. 특히 두 번째 예시가 도움이 됐어요!\n"
+                + "다만 마지막 부분 설명은 조금 헷갈리네요 (3장 참고).\n\n";
+        if ("typical".equals(size)) {
+            body = paragraph.strip();
+        } else {
+            StringBuilder sb = new StringBuilder(5200);
+            while (sb.length() < 5000) sb.append(paragraph);
+            body = sb.substring(0, 5000).strip();
+        }
+    }
+
+    @Benchmark
+    public String legacyTextToSafeHtml() {
+        Document shell = Document.createShell("");
+        shell.body().appendText(body);
+        return HtmlSanitizer.safeHtml(shell.body().html().replace("\n", "<br/>"));
+    }
+
+    @Benchmark
+    public String escaper() {
+        return PlainTextEscaper.escape(body);
+    }
+
+    @Benchmark
+    public String flexmark() {
+        return MarkdownRenderer.renderUncached(body);
+    }
+
+    @Benchmark
+    public String paragraphs() {
+        return PlainTextEscaper.paragraphs(body);
+    }
+}
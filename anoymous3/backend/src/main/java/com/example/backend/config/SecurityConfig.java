@@ -1,9 +1,14 @@
 // backend/src/main/java/com/example/backend/config/SecurityConfig.java
 package com.example.backend.config;
 
+import com.example.backend.repo.UserRepository;
 import com.example.backend.security.JwtFilter;
 import com.example.backend.security.JwtUtil;
+import com.example.backend.security.RateLimitFilter;
+import com.example.backend.security.RateLimiter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -22,7 +27,10 @@ import java.util.List;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtUtil jwtUtil) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtUtil jwtUtil, UserRepository userRepo,
+                                           RateLimiter rateLimiter,
+                                           @Value("${rate-limit.trust-forwarded:false}") boolean trustForwarded) throws Exception {
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, userRepo);
         http
                 // SPA + JWT (stateless)
                 .csrf(csrf -> csrf.disable())
@@ -38,7 +46,9 @@ public class SecurityConfig {
                 )
 
                 // JWT 필터
-                .addFilterBefore(new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                // 유입 제한(사용자 id 를 쓰므로 JWT 필터 다음)
+                .addFilterAfter(new RateLimitFilter(rateLimiter, trustForwarded), JwtFilter.class)
 
                 // 권한 규칙
                 .authorizeHttpRequests(reg -> reg
@@ -46,6 +56,9 @@ public class SecurityConfig {
                         .requestMatchers("/", "/index.html", "/favicon.ico", "/error").permitAll()
                         .requestMatchers("/static/**", "/assets/**", "/css/**", "/js/**", "/images/**").permitAll()
 
+                        // 비동기 재디스패치(스트리밍 내보내기 완료) — 최초 요청에서 이미 인가됨, 무상태라 인증 정보 없음
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 프리플라이트
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
@@ -57,7 +70,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET,
                                 "/api/posts/**",
                                 "/api/posts/*/comments",
-                                "/api/posts/*/reactions"
+                                "/api/posts/*/reactions",
+                                "/api/comments/*/replies"
                         ).permitAll()
 
                         // 관리자 전용
@@ -91,7 +105,7 @@ public class SecurityConfig {
         c.setAllowedOrigins(List.of("http://localhost:3000"));
         c.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         c.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With", "Accept"));
-        c.setExposedHeaders(List.of("Authorization"));
+        c.setExposedHeaders(List.of("Authorization", "X-Search-Partial"));
         c.setAllowCredentials(false); // JWT는 헤더 사용
         c.setMaxAge(3600L);
 
@@ -0,0 +1,28 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * MVC 비동기 응답 타임아웃.
+ * 비동기로 응답하는 곳은 관리자 내보내기(StreamingResponseBody)뿐이라 그 기준으로 잡음
+ * — 기본값(톰캣 30초)이면 큰 내보내기가 중간에 끊김.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final Duration timeout;
+
+    public WebAsyncConfig(@Value("${admin.export.timeout:PT30M}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+}
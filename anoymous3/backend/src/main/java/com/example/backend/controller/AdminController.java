@@ -4,20 +4,29 @@ import com.example.backend.dto.AdminDtos.NoticeToggleReq;
 import com.example.backend.dto.AdminDtos.SetUserRoleReq;
 import com.example.backend.dto.AdminDtos.SetUserStatusReq;
 import com.example.backend.dto.AdminDtos.UserAdminRes;
+import com.example.backend.dto.AdminDtos.UserPurgeJobRes;
 import com.example.backend.dto.PostDtos.CreateReq;
 import com.example.backend.dto.PostDtos.PostAdminRes;
 import com.example.backend.dto.PostDtos.PostRes;
 import com.example.backend.dto.PostDtos.UpsertReq;
+import com.example.backend.service.AdminExportService;
+import com.example.backend.service.AdminExportService.Format;
 import com.example.backend.service.AdminService;
 import com.example.backend.service.CommentService;
 import com.example.backend.service.PostService;
+import com.example.backend.util.TotalMode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -27,16 +36,18 @@ public class AdminController {
     private final AdminService adminService;
     private final PostService postService;
     private final CommentService commentService;
+    private final AdminExportService exportService;
 
     /* ======================= 유저 ======================= */
 
-    /** (ADMIN) 유저 목록/검색 */
+    /** (ADMIN) 유저 목록/검색 — ?total=exact(기본)|approx|none */
     @GetMapping("/users")
-    public Page<UserAdminRes> listUsers(
+    public Slice<UserAdminRes> listUsers(
             @RequestParam(required = false) String q,
+            @RequestParam(required = false) String total,
             @PageableDefault(size = 20) Pageable pageable
     ) {
-        return adminService.listUsers(q, pageable);
+        return adminService.listUsers(q, TotalMode.of(total), pageable);
     }
 
     /** (ADMIN) 유저 상태 설정(ACTIVE/SUSPENDED/DELETED) */
@@ -53,23 +64,30 @@ public class AdminController {
         adminService.setUserRole(id, req);
     }
 
-    /** (ADMIN) 유저 삭제(안전-소프트 삭제 or 재지정 전략 내부 처리) */
+    /** (ADMIN) 유저 삭제 — 계정은 즉시 DELETED, 글/댓글 정리는 백그라운드(202 + 작업 id) */
     @DeleteMapping("/users/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void hardDeleteUser(@PathVariable Long id) {
-        adminService.hardDeleteUser(id);
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public UserPurgeJobRes hardDeleteUser(@PathVariable Long id) {
+        return adminService.hardDeleteUser(id);
+    }
+
+    /** (ADMIN) 유저 삭제 작업 진행 상황 */
+    @GetMapping("/user-purge-jobs/{jobId}")
+    public UserPurgeJobRes userPurgeJob(@PathVariable Long jobId) {
+        return adminService.userPurgeJob(jobId);
     }
 
     /* ======================= 게시물/공지 ======================= */
 
-    /** (ADMIN) 게시물 목록(삭제 포함) */
+    /** (ADMIN) 게시물 목록(삭제 포함) — ?total=exact(기본)|approx|none */
     @GetMapping("/posts")
-    public Page<PostAdminRes> adminListPosts(
+    public Slice<PostAdminRes> adminListPosts(
+            @RequestParam(required = false) String total,
             @PageableDefault(size = 100, sort = "createdAt",
                     direction = org.springframework.data.domain.Sort.Direction.DESC)
             Pageable pageable
     ) {
-        return postService.adminList(pageable);
+        return postService.adminList(TotalMode.of(total), pageable);
     }
 
     /** (ADMIN) 임의의 게시글 소프트 삭제 + 댓글 일괄 소프트 삭제 */
@@ -114,4 +132,36 @@ public class AdminController {
     public void deleteAnyComment(@PathVariable Long id) {
         commentService.adminDelete(id);
     }
+
+    /* ======================= 내보내기 ======================= */
+
+    /** (ADMIN) 전체 게시물 내보내기(삭제 제외) — ?format=ndjson(기본)|csv, 스트리밍 */
+    @GetMapping("/export/posts")
+    public ResponseEntity<StreamingResponseBody> exportPosts(@RequestParam(required = false) String format) {
+        Format f = Format.of(format);
+        return download("posts", f, exportService.posts(f));
+    }
+
+    /** (ADMIN) 전체 댓글 내보내기(삭제 포함, deleted 로 구분) */
+    @GetMapping("/export/comments")
+    public ResponseEntity<StreamingResponseBody> exportComments(@RequestParam(required = false) String format) {
+        Format f = Format.of(format);
+        return download("comments", f, exportService.comments(f));
+    }
+
+    /** (ADMIN) 전체 유저 내보내기 */
+    @GetMapping("/export/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(required = false) String format) {
+        Format f = Format.of(format);
+        return download("users", f, exportService.users(f));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String name, Format format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.extension).build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .contentType(MediaType.parseMediaType(format.contentType))
+                .body(body);
+    }
 }
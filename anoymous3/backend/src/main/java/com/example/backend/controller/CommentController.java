@@ -2,6 +2,7 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.CommentDtos.CommentRes;
+import com.example.backend.dto.CommentDtos.CommentTreeRes;
 import com.example.backend.dto.CommentDtos.CreateReq;
 import com.example.backend.dto.CommentDtos.UpdateReq;
 import com.example.backend.service.CommentService;
@@ -23,6 +24,26 @@ public class CommentController {
         return commentService.list(postId);   // ✅ list(Long) 시그니처에 맞춤
     }
 
+    /** 트리: 최상위 스레드 size 개, 각 단계 답글 replies 개, depth 단계까지 펼침(나머지는 moreReplies) */
+    @GetMapping("/posts/{postId}/comments/tree")
+    public CommentTreeRes tree(@PathVariable Long postId,
+                               @RequestParam(required = false) String cursor,
+                               @RequestParam(defaultValue = "20") int size,
+                               @RequestParam(defaultValue = "3") int replies,
+                               @RequestParam(defaultValue = "2") int depth) {
+        return commentService.tree(postId, cursor, size, replies, depth);
+    }
+
+    /** 접힌 답글 이어보기 */
+    @GetMapping("/comments/{id}/replies")
+    public CommentTreeRes replies(@PathVariable Long id,
+                                  @RequestParam(required = false) String cursor,
+                                  @RequestParam(defaultValue = "20") int size,
+                                  @RequestParam(defaultValue = "3") int replies,
+                                  @RequestParam(defaultValue = "1") int depth) {
+        return commentService.replies(id, cursor, size, replies, depth);
+    }
+
     @PostMapping("/posts/{postId}/comments")
     public CommentRes create(@PathVariable Long postId, @RequestBody @Valid CreateReq req) {
         return commentService.create(postId, req); // ✅ create(Long, CreateReq)
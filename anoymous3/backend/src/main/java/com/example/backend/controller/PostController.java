@@ -1,14 +1,22 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.PostDtos.CreateReq;
+import com.example.backend.dto.PostDtos.FeedRes;
+import com.example.backend.dto.PostDtos.HotRes;
 import com.example.backend.dto.PostDtos.PostRes;
+import com.example.backend.dto.PostDtos.PostSummaryRes;
 import com.example.backend.dto.PostDtos.UpsertReq;
+import com.example.backend.service.HotPostRanker;
+import com.example.backend.service.PostSearchService;
 import com.example.backend.service.PostService;
+import com.example.backend.util.TotalMode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -17,6 +25,8 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final PostSearchService postSearchService;
+    private final HotPostRanker hotPostRanker;
 
     /** 단건 조회(삭제된 글은 400) */
     @GetMapping("/{id}")
@@ -29,22 +39,67 @@ public class PostController {
      * - ?mine=true   : 내 글만 (로그인 필요)
      * - ?notice=true : 공지만 (누구나 읽기)
      * - 기본         : 삭제되지 않은 전체 글
-     * 정렬은 createdAt,desc 기본.
+     * - ?total=exact(기본)|approx|none : 전체 개수 방식(approx=캐시 값, none=Slice)
+     * 정렬은 createdAt,desc 기본. 본문 대신 excerpt 만 내려줌(본문은 단건 조회).
      */
     @GetMapping
-    public Page<PostRes> list(
+    public Slice<PostSummaryRes> list(
             @RequestParam(required = false) Boolean mine,
             @RequestParam(required = false) Boolean notice,
+            @RequestParam(required = false) String total,
             @PageableDefault(size = 20, sort = "createdAt",
                     direction = org.springframework.data.domain.Sort.Direction.DESC)
             Pageable pageable
     ) {
-        return postService.list(mine, notice, pageable);
+        return postService.list(mine, notice, TotalMode.of(total), pageable);
+    }
+
+    /**
+     * 키셋(커서) 피드
+     * - 첫 요청은 cursor 없이, 이후엔 응답의 nextCursor 를 그대로 전달
+     * - mine/notice 필터는 목록 조회와 동일
+     * 전체 개수(count)를 계산하지 않으므로 깊은 페이지도 첫 페이지와 비용이 같음.
+     */
+    @GetMapping("/feed")
+    public FeedRes feed(
+            @RequestParam(required = false) Boolean mine,
+            @RequestParam(required = false) Boolean notice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return postService.feed(mine, notice, cursor, size);
+    }
+
+    /**
+     * 인기 글(좋아요/댓글 기반 시간 감쇠 점수 순)
+     * 주기적으로 계산해 둔 스냅샷을 그대로 반환 — 요청 시 DB 조회 없음.
+     */
+    @GetMapping("/hot")
+    public HotRes hot(@RequestParam(defaultValue = "10") int size) {
+        return hotPostRanker.hot(size);
+    }
+
+    /**
+     * 검색(제목/본문) — 역색인 기반, 관련도 순
+     * - ?q=검색어 (한글은 2글자 단위로 부분 일치)
+     * - ?notice=true/false : 공지/일반만
+     * 색인 준비 전에는 제목/미리보기만 본 최신순 결과 + X-Search-Partial: true 헤더
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<PostSummaryRes>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Boolean notice,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        PostSearchService.Result r = postSearchService.search(q, notice, pageable);
+        return ResponseEntity.ok()
+                .header(PostSearchService.PARTIAL_HEADER, String.valueOf(r.partial()))
+                .body(r.page());
     }
 
     /** 편의: /api/posts/notices -> 공지 전용 목록(읽기 전용) */
     @GetMapping("/notices")
-    public Page<PostRes> listNotices(
+    public Page<PostSummaryRes> listNotices(
             @PageableDefault(size = 20, sort = "createdAt",
                     direction = org.springframework.data.domain.Sort.Direction.DESC)
             Pageable pageable
@@ -2,26 +2,38 @@ package com.example.backend.controller;
 
 import com.example.backend.dto.ReactionDtos.SummaryRes;
 import com.example.backend.dto.ReactionDtos.ToggleReq;
+import com.example.backend.security.AuthUser;
 import com.example.backend.service.ReactionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
-@RequestMapping("/api/posts/{postId}/reactions")
+@RequestMapping("/api/posts")
 public class ReactionController {
     private final ReactionService reactionService;
 
-    @GetMapping
-    public SummaryRes summary(@PathVariable Long postId, Authentication auth) {
-        String email = auth != null ? auth.getName() : null;
-        return reactionService.summary(postId, email);
+    @GetMapping("/{postId}/reactions")
+    public SummaryRes summary(@PathVariable Long postId, @AuthenticationPrincipal AuthUser me) {
+        return reactionService.summary(postId, idOf(me));
+    }
+
+    /** 피드 한 페이지 분량 일괄 요약: GET /api/posts/reactions?postIds=1,2,3 → { "1": {...}, "2": {...} } */
+    @GetMapping("/reactions")
+    public Map<Long, SummaryRes> summaries(@RequestParam List<Long> postIds, @AuthenticationPrincipal AuthUser me) {
+        return reactionService.summaries(postIds, idOf(me));
+    }
+
+    @PostMapping("/{postId}/reactions")
+    public SummaryRes toggle(@PathVariable Long postId, @AuthenticationPrincipal AuthUser me, @RequestBody ToggleReq req) {
+        return reactionService.toggle(postId, idOf(me), req);
     }
 
-    @PostMapping
-    public SummaryRes toggle(@PathVariable Long postId, Authentication auth, @RequestBody ToggleReq req) {
-        String email = auth != null ? auth.getName() : null;
-        return reactionService.toggle(postId, email, req);
+    private static Long idOf(AuthUser me) {
+        return me != null ? me.id() : null;
     }
 }
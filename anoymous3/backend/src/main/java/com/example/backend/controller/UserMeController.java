@@ -3,9 +3,12 @@ package com.example.backend.controller;
 import com.example.backend.domain.User;
 import com.example.backend.dto.UserDtos.MeRes;
 import com.example.backend.repo.UserRepository;
+import com.example.backend.security.AuthUser;
+import com.example.backend.service.ActivityIdRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -17,27 +20,27 @@ import java.util.Map;
 public class UserMeController {
 
     private final UserRepository userRepo;
+    private final ActivityIdRegistry activityIds;
 
     // 내 정보 조회 (GET)
     @GetMapping
-    public MeRes me(Authentication auth) {
-        User u = requireMe(auth);
+    public MeRes me(@AuthenticationPrincipal AuthUser me) {
+        User u = requireMe(me);
         return new MeRes(u.getEmail(), u.getActivityId());
     }
 
     // (기존) 내 activityId 변경 (PUT) - 호환용
     @PutMapping
-    public ResponseEntity<MeRes> update(Authentication auth, @RequestBody UpdateMeReq req) {
-        User u = requireMe(auth);
+    public ResponseEntity<MeRes> update(@AuthenticationPrincipal AuthUser me, @RequestBody UpdateMeReq req) {
+        User u = requireMe(me);
 
         if (req.activityId() != null && !req.activityId().isBlank()) {
             String norm = normalize(req.activityId());
             if (!norm.equalsIgnoreCase(u.getActivityId())
-                    && userRepo.existsByActivityIdIgnoreCase(norm)) {
+                    && activityIds.isTaken(norm)) {
                 throw new IllegalArgumentException("이미 사용 중인 활동아이디");
             }
-            u.setActivityId(norm);
-            userRepo.save(u);
+            saveActivityId(u, norm, "이미 사용 중인 활동아이디");
         }
 
         return ResponseEntity.ok(new MeRes(u.getEmail(), u.getActivityId()));
@@ -45,18 +48,17 @@ public class UserMeController {
 
     // ✅ 프론트가 호출하는 활동 아이디 변경 (PATCH /api/users/me/activity-id)
     @PatchMapping("/activity-id")
-    public ResponseEntity<MeRes> changeActivityId(Authentication auth, @RequestBody ActivityIdReq req) {
-        User u = requireMe(auth);
+    public ResponseEntity<MeRes> changeActivityId(@AuthenticationPrincipal AuthUser me, @RequestBody ActivityIdReq req) {
+        User u = requireMe(me);
         String want = normalize(req.activityId());
         if (want == null) throw new IllegalArgumentException("아이디를 입력하세요.");
 
         if (!want.equalsIgnoreCase(u.getActivityId())
-                && userRepo.existsByActivityIdIgnoreCase(want)) {
+                && activityIds.isTaken(want)) {
             throw new IllegalArgumentException("이미 사용 중인 아이디입니다.");
         }
 
-        u.setActivityId(want);
-        userRepo.save(u);
+        saveActivityId(u, want, "이미 사용 중인 아이디입니다.");
         return ResponseEntity.ok(new MeRes(u.getEmail(), u.getActivityId()));
     }
 
@@ -76,18 +78,28 @@ public class UserMeController {
 
     /* ===== helpers / DTOs ===== */
 
-    private User requireMe(Authentication auth) {
-        if (auth == null || auth.getName() == null) {
+    private User requireMe(AuthUser me) {
+        if (me == null) {
             throw new IllegalStateException("Unauthenticated");
         }
-        return userRepo.findByEmail(auth.getName())
+        // 이메일 유니크 인덱스 대신 PK 조회
+        return userRepo.findById(me.id())
                 .orElseThrow(() -> new IllegalStateException("User not found"));
     }
 
+    /** 중복 확인과 저장 사이에 같은 아이디가 먼저 저장되면 유니크 제약 위반 → 400(가입과 동일) */
+    private void saveActivityId(User u, String norm, String takenMessage) {
+        u.setActivityId(norm);
+        try {
+            userRepo.saveAndFlush(u);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(takenMessage);
+        }
+        activityIds.register(norm);
+    }
+
     private static String normalize(String s) {
-        if (s == null) return null;
-        String t = s.trim().toLowerCase();
-        return t.isEmpty() ? null : t;
+        return User.normalizeActivityId(s);
     }
 
     public record UpdateMeReq(String activityId) {}
@@ -8,7 +8,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+        indexes = @Index(name = "idx_comments_created_at", columnList = "createdAt")) // 인기 글 증분 집계
 @Getter @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
 public class Comment {
@@ -28,6 +29,10 @@ public class Comment {
     @Column(nullable=false, columnDefinition = "LONGTEXT")
     private String content;  // 서버에서 sanitize한 HTML 저장 (또는 마크다운 HTML)
 
+    /** 작성자가 입력한 마크다운 원문(수정 화면용) — 도입 이전 댓글은 null */
+    @Column(name = "content_raw", columnDefinition = "LONGTEXT")
+    private String contentRaw;
+
     @Column(nullable=false)
     private int depth; // 0=댓글, 1=대댓글, ... (원하면 최대 2로 제한)
 
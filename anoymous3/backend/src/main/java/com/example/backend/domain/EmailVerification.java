@@ -9,7 +9,8 @@ import java.time.Instant;
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 @Table(name="email_verifications", indexes = {
-        @Index(name="idx_ev_email", columnList = "email", unique = true)
+        @Index(name="idx_ev_email", columnList = "email", unique = true),
+        @Index(name="idx_ev_expires_at", columnList = "expiresAt")
 })
 public class EmailVerification {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +27,10 @@ public class EmailVerification {
 
     private Instant verifiedAt;  // 검증 성공 시각
 
+    @Column(nullable=false)
+    @Builder.Default
+    private int attempts = 0;    // 코드 불일치 횟수(max-attempts 초과 시 재발송 필요)
+
     private Instant updatedAt;
 
     @PrePersist @PreUpdate
@@ -0,0 +1,65 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 발송 대기 메일(트랜잭셔널 아웃박스).
+ * 업무 트랜잭션과 같은 커밋으로 쌓이고, MailOutboxDispatcher 가 비동기로 묶어서 보냄.
+ * - nextAttemptAt: 다음 시도 가능 시각(클레임 시 리스 만료 시각으로도 사용)
+ * - claimToken: 디스패처가 한 번에 가져간 묶음 식별자(다중 인스턴스에서도 한 행은 한 곳만 보냄)
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_mail_outbox_claim", columnList = "claim_token")
+})
+public class MailOutbox {
+
+    public enum Status { PENDING, SENT, DEAD }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 180)
+    private String recipient;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant sentAt;
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) createdAt = Instant.now();
+        if (nextAttemptAt == null) nextAttemptAt = createdAt;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -13,7 +14,8 @@ import java.time.Instant;
         name = "posts",
         indexes = {
                 @Index(name = "idx_posts_notice_created_at", columnList = "notice,createdAt"),
-                @Index(name = "idx_posts_created_at", columnList = "createdAt")
+                @Index(name = "idx_posts_created_at", columnList = "createdAt"),
+                @Index(name = "idx_posts_author_created_at", columnList = "author_id,createdAt")
         }
 )
 @Getter @Setter @Builder
@@ -22,6 +24,8 @@ import java.time.Instant;
 @Where(clause = "deleted_at IS NULL") // 기본 조회에서 소프트 삭제 제외
 public class Post {
 
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -32,10 +36,20 @@ public class Post {
     @JoinColumn(name = "author_id")
     private User author;
 
-    // 아주 긴 본문 저장
-    @Lob
-    @Column(columnDefinition = "LONGTEXT", nullable = false)
-    private String content;
+    /**
+     * 목록 카드용 미리보기(본문 앞부분). 본문 자체는 post_bodies(PostBody)에 따로 저장 —
+     * posts 행에는 고정 크기 메타데이터만 남음. 본문 저장 시 PostBodyStore 가 함께 갱신.
+     */
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    /**
+     * 조회수 — PostViewCounter 가 모아서 증분 UPDATE 로만 갱신.
+     * 엔티티 저장(수정 등)이 오래된 값으로 덮어쓰지 않도록 insert/update 대상에서 제외.
+     */
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+    private long viewCount;
 
     /** 공지 여부 (ADMIN 전용) */
     @Column(nullable = false)
@@ -74,4 +88,14 @@ public class Post {
     public boolean isDeleted() {
         return this.deletedAt != null;
     }
+
+    /** 본문 → 미리보기(공백/개행을 한 칸으로 접고 앞부분만, 서로게이트 쌍은 자르지 않음) */
+    public static String excerptOf(String content) {
+        if (content == null) return "";
+        String plain = content.replaceAll("\\s+", " ").trim();
+        if (plain.length() <= EXCERPT_LENGTH) return plain;
+        int end = EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(plain.charAt(end - 1))) end--; // 이모지 등 보조 문자 앞에서 끊음
+        return plain.substring(0, end);
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 게시글 본문(원문 + 렌더 HTML) 분리 저장.
+ * posts 행은 고정 크기 메타데이터만 남기고, 본문은 단건 조회 등 필요할 때만 post_id 로 따로 읽음.
+ * encoding 이 DEFLATE 면 두 컬럼 모두 압축된 UTF-8 바이트 — 인코딩/디코딩은 PostBodyStore 가 담당.
+ */
+@Entity
+@Table(name = "post_bodies")
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class PostBody {
+
+    public enum Encoding { RAW, DEFLATE }
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Encoding encoding;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] content;
+
+    /** 원문 UTF-8 바이트 수(압축 해제 버퍼 크기) */
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @Lob
+    @Column(name = "content_html", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] contentHtml;
+
+    /** 렌더 HTML UTF-8 바이트 수 */
+    @Column(name = "html_length", nullable = false)
+    private int htmlLength;
+}
@@ -0,0 +1,29 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 인기 글 점수 스냅샷(재기동 복원용).
+ * HotPostRanker 가 매 주기 후보 전체를 덮어씀 — scoredAt 은 점수가 유효한 시각이자 다음 증분 집계의 시작점.
+ */
+@Entity
+@Table(name = "post_hot_scores")
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class PostHotScore {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "scored_at", nullable = false)
+    private Instant scoredAt;
+}
@@ -8,7 +8,8 @@ import java.time.Instant;
 
 @Entity
 @Table(name = "post_reactions",
-        uniqueConstraints = @UniqueConstraint(name="uk_reaction_post_user", columnNames = {"post_id","user_id"}))
+        uniqueConstraints = @UniqueConstraint(name="uk_reaction_post_user", columnNames = {"post_id","user_id"}),
+        indexes = @Index(name = "idx_post_reactions_created_at", columnList = "createdAt")) // 인기 글 증분 집계
 @Getter @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
 public class PostReaction {
@@ -0,0 +1,25 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 게시글별 좋아요/싫어요 집계(비정규화).
+ * toggle 에서 같은 트랜잭션으로 증감하고, 주기적으로 post_reactions 기준 재계산(ReactionCountReconciler).
+ */
+@Entity
+@Table(name = "post_reaction_counts")
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class PostReactionCount {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false)
+    private long likes;
+
+    @Column(nullable = false)
+    private long dislikes;
+}
@@ -10,7 +10,8 @@ import java.time.Instant;
 @Entity
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(name="uk_users_email", columnNames = "email"),
-        @UniqueConstraint(name="uk_users_activity_id", columnNames = "activity_id")
+        @UniqueConstraint(name="uk_users_activity_id", columnNames = "activity_id"),
+        @UniqueConstraint(name="uk_users_activity_id_norm", columnNames = "activity_id_norm")
 })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class User {
@@ -24,6 +25,10 @@ public class User {
     @Column(name="activity_id", nullable=false, length=64)
     private String activityId;
 
+    /** 중복 검사용 정규화 값(trim + 소문자). activityId 가 바뀌면 같이 갱신 */
+    @Column(name="activity_id_norm", length=64)
+    private String activityIdNorm;
+
     @Column(nullable=false)
     private String passwordHash;
 
@@ -49,5 +54,18 @@ public class User {
         if (createdAt == null) createdAt = Instant.now();
         if (role == null) role = Role.USER;
         if (status == null) status = UserStatus.ACTIVE;
+        activityIdNorm = normalizeActivityId(activityId);
+    }
+
+    @PreUpdate
+    void preUpdate() {
+        activityIdNorm = normalizeActivityId(activityId);
+    }
+
+    /** 활동아이디 정규화 규칙(가입/변경/중복검사 공통) */
+    public static String normalizeActivityId(String s) {
+        if (s == null) return null;
+        String t = s.trim().toLowerCase();
+        return t.isEmpty() ? null : t;
     }
 }
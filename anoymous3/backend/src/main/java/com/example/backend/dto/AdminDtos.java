@@ -25,4 +25,16 @@ public class AdminDtos {
             Role role,
             Instant suspendedUntil
     ) {}
+
+    /** 사용자 삭제(게시글/댓글 연쇄 소프트 삭제) 백그라운드 작업 진행 상황 */
+    public record UserPurgeJobRes(
+            Long jobId,
+            Long userId,
+            String state,          // QUEUED / RUNNING / DONE / FAILED
+            long postsDeleted,
+            long commentsDeleted,
+            Instant startedAt,
+            Instant finishedAt,
+            String error
+    ) {}
 }
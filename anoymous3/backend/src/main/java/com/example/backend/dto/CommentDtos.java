@@ -4,6 +4,7 @@ package com.example.backend.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.Instant;
+import java.util.List;
 
 public class CommentDtos {
 
@@ -17,6 +18,62 @@ public class CommentDtos {
             Instant createdAt
     ) {}
 
+    /** 평면 행(댓글 하나) — 목록/내보내기 */
+    public record CommentRow(
+            Long id,
+            Long postId,
+            Long parentId,
+            String authorActivityId,
+            String contentRaw,
+            String contentHtml,
+            Instant createdAt,
+            int depth,
+            boolean deleted
+    ) {}
+
+    /** 트리 조립용 연결 정보 — 본문/작성자 없이 id·부모·정렬 키만 */
+    public record CommentLink(
+            Long id,
+            Long parentId,
+            Instant createdAt,
+            int depth,
+            boolean deleted
+    ) {}
+
+    /** 트리 페이지에 실린 댓글의 표시 내용 */
+    public record CommentContent(
+            Long id,
+            String authorActivityId,
+            String contentRaw,
+            String contentHtml
+    ) {}
+
+    /**
+     * 트리 노드. replies 는 잘린 일부일 수 있고, 나머지 직계 답글 수는 moreReplies
+     * (GET /api/comments/{id}/replies 로 이어서 조회). 삭제된 댓글은 답글이 남아 있을 때만 자리표시로 내려감.
+     */
+    public record CommentNode(
+            Long id,
+            Long parentId,
+            String authorActivityId,
+            String contentRaw,
+            String contentHtml,
+            Instant createdAt,
+            int depth,
+            boolean deleted,
+            List<CommentNode> replies,
+            int moreReplies
+    ) {}
+
+    /** 스레드(형제 댓글) 한 페이지 — 커서는 (createdAt, id) */
+    public record CommentTreeRes(
+            List<CommentNode> items,
+            String nextCursor,
+            boolean hasNext,
+            int totalThreads,
+            int totalComments
+    ) {}
+
     public record CreateReq(
             @NotBlank @Size(max = 5000) String content,
             Long parentId // 대댓글이면 부모 ID
@@ -3,6 +3,7 @@ package com.example.backend.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.Instant;
+import java.util.List;
 
 public class PostDtos {
 
@@ -11,10 +12,35 @@ public class PostDtos {
             Long id,
             String title,
             String content,
+            String contentHtml, // 서버에서 렌더/정화 완료된 본문(그대로 표시)
             String authorActivityId,
+            long viewCount,
             Instant createdAt
     ) {}
 
+    /**
+     * 목록/피드 카드용 요약 DTO.
+     * 본문(LONGTEXT)은 싣지 않고 미리 계산해 둔 excerpt 만 포함 — 본문은 단건 조회(PostRes)로만 로딩.
+     */
+    public record PostSummaryRes(
+            Long id,
+            String title,
+            String excerpt,
+            String authorActivityId,
+            Instant createdAt
+    ) {}
+
+    /**
+     * 키셋(커서) 피드 응답 DTO.
+     * - nextCursor 를 그대로 다음 요청의 ?cursor= 로 넘기면 이어서 조회
+     * - 전체 개수는 제공하지 않음(count 쿼리 생략)
+     */
+    public record FeedRes(
+            List<PostSummaryRes> items,
+            String nextCursor,
+            boolean hasNext
+    ) {}
+
     /**
      * 관리자/공지 전용 확장 응답 DTO.
      * 공지 여부, 업데이트/삭제 시각까지 포함이 필요할 때 선택적으로 사용하세요.
@@ -63,4 +89,19 @@ public class PostDtos {
             /** 관리자만 의미 있는 값(서비스에서 ROLE_ADMIN만 반영) */
             Boolean notice
     ) {}
+
+    /** 내부 작업용 최소 참조(id + 공지 여부) */
+    public record PostRef(Long id, boolean notice) {}
+
+    /**
+     * 인기 글 응답 — 주기 집계된 스냅샷 그대로(요청마다 조인/집계 없음).
+     * computedAt: 스냅샷 계산 시각(아직 한 번도 계산 전이면 null)
+     */
+    public record HotRes(
+            List<PostSummaryRes> items,
+            Instant computedAt
+    ) {}
+
+    /** 내부 작업용 게시글별 건수(인기 글 증분 집계) */
+    public record PostCount(Long postId, Long count) {}
 }
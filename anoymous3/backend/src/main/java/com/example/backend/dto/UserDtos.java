@@ -11,4 +11,7 @@ public class UserDtos {
 
     /** /api/users/me (PUT) 요청 바디 — 현재 intro 필드는 엔티티에 없지만, 프론트 PUT을 204로만 응답해 주기 위해 둠 */
     public record UpdateIntroReq(String intro) {}
+
+    /** 정규화 컬럼 채우기용 행(id, 원래 활동아이디) */
+    public record ActivityIdRow(Long id, String activityId) {}
 }
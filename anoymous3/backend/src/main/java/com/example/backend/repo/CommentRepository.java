@@ -2,6 +2,10 @@
 package com.example.backend.repo;
 
 import com.example.backend.domain.Comment;
+import com.example.backend.dto.CommentDtos.CommentContent;
+import com.example.backend.dto.CommentDtos.CommentLink;
+import com.example.backend.dto.CommentDtos.CommentRow;
+import com.example.backend.dto.PostDtos.PostCount;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,17 +13,68 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @EntityGraph(attributePaths = {"author", "parent", "post"})
     List<Comment> findByPost_IdOrderByCreatedAtAsc(Long postId);
 
-    @EntityGraph(attributePaths = {"author", "parent", "post"})
-    List<Comment> findByPost_IdAndDeletedAtIsNullOrderByCreatedAtAsc(Long postId);
+    /* ===== 목록/트리용 프로젝션 =====
+       엔티티 그래프(author+parent+post) 대신 필요한 컬럼만 — Post 본문(LONGTEXT)·영속성 컨텍스트 스냅샷 없음.
+       post/parent 는 FK 값만 쓰므로 조인하지 않고, author 만 activityId 때문에 조인
+     */
+
+    /** 트리 조립용(삭제 포함) — 본문(LONGTEXT)/작성자 조인 없이 연결 정보만 */
+    @Query("""
+           SELECT new com.example.backend.dto.CommentDtos$CommentLink(
+               c.id, c.parent.id, c.createdAt, c.depth,
+               CASE WHEN c.deletedAt IS NULL THEN false ELSE true END)
+           FROM Comment c
+           WHERE c.post.id = :postId
+           ORDER BY c.createdAt ASC, c.id ASC
+           """)
+    List<CommentLink> findLinksByPostId(@Param("postId") Long postId);
+
+    /** 트리 한 페이지에 실린 댓글의 본문/작성자(삭제된 댓글은 빠짐) */
+    @Query("""
+           SELECT new com.example.backend.dto.CommentDtos$CommentContent(c.id, a.activityId, c.contentRaw, c.content)
+           FROM Comment c LEFT JOIN c.author a
+           WHERE c.id IN :ids AND c.deletedAt IS NULL
+           """)
+    List<CommentContent> findContentByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 살아 있는 댓글만(평면 목록) */
+    @Query("""
+           SELECT new com.example.backend.dto.CommentDtos$CommentRow(
+               c.id, c.post.id, c.parent.id, a.activityId, c.contentRaw, c.content, c.createdAt, c.depth, false)
+           FROM Comment c LEFT JOIN c.author a
+           WHERE c.post.id = :postId
+             AND c.deletedAt IS NULL
+           ORDER BY c.createdAt ASC, c.id ASC
+           """)
+    List<CommentRow> findLiveRowsByPostId(@Param("postId") Long postId);
+
+    @Query("select c.post.id from Comment c where c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
 
     @Modifying
     @Query("update Comment c set c.deletedAt = :now where c.post.id = :postId and c.deletedAt is null")
     void softDeleteAllByPostId(@Param("postId") Long postId, @Param("now") Instant now);
+
+    /** 여러 게시글의 댓글 일괄 소프트 삭제(사용자 삭제 작업 청크 단위) */
+    @Modifying
+    @Query("update Comment c set c.deletedAt = :now where c.post.id in :postIds and c.deletedAt is null")
+    int softDeleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds, @Param("now") Instant now);
+
+    /** (since, until] 사이 새로 달린 댓글 수 — 게시글별(인기 글 증분 집계) */
+    @Query("""
+           SELECT new com.example.backend.dto.PostDtos$PostCount(c.post.id, COUNT(c))
+           FROM Comment c
+           WHERE c.createdAt > :since AND c.createdAt <= :until AND c.deletedAt IS NULL
+           GROUP BY c.post.id
+           """)
+    List<PostCount> countCreatedByPost(@Param("since") Instant since, @Param("until") Instant until);
 }
@@ -2,9 +2,25 @@ package com.example.backend.repo;
 
 import com.example.backend.domain.EmailVerification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 
 public interface EmailVerificationRepository extends JpaRepository<EmailVerification, Long> {
     Optional<EmailVerification> findByEmail(String email);
+
+    /** 만료 행 청크 삭제(idx_ev_expires_at 범위 조회) */
+    @Transactional
+    @Modifying
+    @Query(value = """
+           DELETE FROM email_verifications
+           WHERE expires_at < :now
+             AND (verified_at IS NULL OR verified_at < :verifiedBefore)
+           LIMIT :chunk
+           """, nativeQuery = true)
+    int purgeExpired(@Param("now") Instant now, @Param("verifiedBefore") Instant verifiedBefore, @Param("chunk") int chunk);
 }
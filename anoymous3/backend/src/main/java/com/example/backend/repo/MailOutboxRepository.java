@@ -0,0 +1,52 @@
+package com.example.backend.repo;
+
+import com.example.backend.domain.MailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /** 지금 보낼 수 있는 대기 메일 id(오래된 순) */
+    @Query("""
+           SELECT m.id FROM MailOutbox m
+           WHERE m.status = com.example.backend.domain.MailOutbox$Status.PENDING
+             AND m.nextAttemptAt <= :now
+           ORDER BY m.nextAttemptAt ASC, m.id ASC
+           """)
+    List<Long> findDueIds(@Param("now") Instant now, Pageable limit);
+
+    /**
+     * 후보 중 아직 대기 상태인 것만 토큰으로 가져감 + 리스 만료까지 다른 디스패처가 못 보게 nextAttemptAt 을 밀어둠.
+     * 조건부 UPDATE 라 동시에 돌아도 한 행은 한 토큰에만 잡힘.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+           UPDATE MailOutbox m SET m.claimToken = :token, m.nextAttemptAt = :leaseUntil
+           WHERE m.id IN :ids
+             AND m.status = com.example.backend.domain.MailOutbox$Status.PENDING
+             AND m.nextAttemptAt <= :now
+           """)
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    List<MailOutbox> findByClaimToken(String claimToken);
+
+    /** 발송 완료분 보관 기간 경과 후 정리 */
+    @Transactional
+    @Modifying
+    @Query("""
+           DELETE FROM MailOutbox m
+           WHERE m.status = com.example.backend.domain.MailOutbox$Status.SENT
+             AND m.sentAt < :before
+           """)
+    int purgeSent(@Param("before") Instant before);
+}
@@ -0,0 +1,53 @@
+package com.example.backend.repo;
+
+import com.example.backend.domain.PostBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostBodyRepository extends JpaRepository<PostBody, Long> {
+
+    /* ===== 이전(posts.content / posts.content_html) 컬럼 — PostBodyMigration 이 옮기는 동안만 사용 =====
+       엔티티에서 빠진 컬럼이라 native 로만 접근. 행 = [id, content, content_html, excerpt]
+     */
+
+    /** 아직 옮기지 않은 행(삭제 포함) — id 키셋 배치 */
+    @Query(value = """
+           SELECT id, content, content_html, excerpt FROM posts
+           WHERE content IS NOT NULL AND id > :afterId
+           ORDER BY id LIMIT :batch
+           """, nativeQuery = true)
+    List<Object[]> findLegacyBodies(@Param("afterId") long afterId, @Param("batch") int batch);
+
+    /** 옮기기 전 글 본문(이전 중 조회 대비) */
+    @Query(value = "SELECT id, content, content_html, excerpt FROM posts WHERE id IN :ids AND content IS NOT NULL",
+            nativeQuery = true)
+    List<Object[]> findLegacyBodiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 옮긴 본문 넣기 — 그 사이 수정(PostBodyStore.write)으로 이미 있으면 그대로 둠.
+     * 확인 후 저장(existsById → save) 사이 경합으로 중복 키가 나 배치 전체가 실패하지 않게 한 문장으로.
+     */
+    @Modifying
+    @Query(value = """
+           INSERT INTO post_bodies (post_id, encoding, content, content_length, content_html, html_length)
+           VALUES (:postId, :encoding, :content, :contentLength, :contentHtml, :htmlLength)
+           ON DUPLICATE KEY UPDATE post_id = post_id
+           """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId,
+                       @Param("encoding") String encoding,
+                       @Param("content") byte[] content,
+                       @Param("contentLength") int contentLength,
+                       @Param("contentHtml") byte[] contentHtml,
+                       @Param("htmlLength") int htmlLength);
+
+    /** 옮긴 행의 이전 컬럼 비우기(+ excerpt 없던 행은 채움) */
+    @Modifying
+    @Query(value = "UPDATE posts SET content = NULL, content_html = NULL, excerpt = COALESCE(excerpt, :excerpt) WHERE id = :id",
+            nativeQuery = true)
+    int clearLegacyBody(@Param("id") Long id, @Param("excerpt") String excerpt);
+}
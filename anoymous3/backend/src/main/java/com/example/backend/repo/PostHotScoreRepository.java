@@ -0,0 +1,7 @@
+package com.example.backend.repo;
+
+import com.example.backend.domain.PostHotScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostHotScoreRepository extends JpaRepository<PostHotScore, Long> {
+}
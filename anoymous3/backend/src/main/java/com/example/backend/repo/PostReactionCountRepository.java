@@ -0,0 +1,60 @@
+package com.example.backend.repo;
+
+import com.example.backend.domain.PostReactionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PostReactionCountRepository extends JpaRepository<PostReactionCount, Long> {
+
+    /** 원자적 증감(행이 없으면 생성) — 음수로 내려가지 않도록 0 에서 멈춤 */
+    @Modifying
+    @Query(value = """
+           INSERT INTO post_reaction_counts (post_id, likes, dislikes)
+           VALUES (:postId, GREATEST(:dLikes, 0), GREATEST(:dDislikes, 0))
+           ON DUPLICATE KEY UPDATE
+             likes = GREATEST(likes + :dLikes, 0),
+             dislikes = GREATEST(dislikes + :dDislikes, 0)
+           """, nativeQuery = true)
+    void increment(@Param("postId") Long postId,
+                   @Param("dLikes") long dLikes,
+                   @Param("dDislikes") long dDislikes);
+
+    /**
+     * [fromId, toId) 구간 게시글의 집계를 post_reactions 기준으로 다시 계산(구간별 한 트랜잭션).
+     * 기존 행 UPDATE + 없는 행 INSERT 두 문장 — VALUES() 참조(MySQL 8.0.20 부터 deprecated) 없이
+     */
+    @Transactional
+    default int reconcileRange(long fromId, long toId) {
+        return refreshRange(fromId, toId) + insertMissingRange(fromId, toId);
+    }
+
+    @Modifying
+    @Query(value = """
+           UPDATE post_reaction_counts c SET
+             likes = (SELECT COUNT(*) FROM post_reactions r WHERE r.post_id = c.post_id AND r.type = 'LIKE'),
+             dislikes = (SELECT COUNT(*) FROM post_reactions r WHERE r.post_id = c.post_id AND r.type = 'DISLIKE')
+           WHERE c.post_id >= :fromId AND c.post_id < :toId
+           """, nativeQuery = true)
+    int refreshRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /** 집계 행이 없는 글만 추가 — 그 사이 increment 가 먼저 만든 행은 그대로 둠(다음 대사에서 보정) */
+    @Modifying
+    @Query(value = """
+           INSERT INTO post_reaction_counts (post_id, likes, dislikes)
+           SELECT p.id,
+                  COALESCE(SUM(CASE WHEN r.type = 'LIKE' THEN 1 ELSE 0 END), 0),
+                  COALESCE(SUM(CASE WHEN r.type = 'DISLIKE' THEN 1 ELSE 0 END), 0)
+           FROM posts p LEFT JOIN post_reactions r ON r.post_id = p.id
+           WHERE p.id >= :fromId AND p.id < :toId
+             AND NOT EXISTS (SELECT 1 FROM post_reaction_counts c WHERE c.post_id = p.id)
+           GROUP BY p.id
+           ON DUPLICATE KEY UPDATE post_id = post_id
+           """, nativeQuery = true)
+    int insertMissingRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM posts", nativeQuery = true)
+    long maxPostId();
+}
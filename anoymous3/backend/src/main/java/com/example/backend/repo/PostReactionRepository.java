@@ -2,11 +2,49 @@ package com.example.backend.repo;
 
 import com.example.backend.domain.PostReaction;
 import com.example.backend.domain.PostReaction.Type;
+import com.example.backend.dto.PostDtos.PostCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostReactionRepository extends JpaRepository<PostReaction, Long> {
     long countByPost_IdAndType(Long postId, Type type);
     Optional<PostReaction> findByPost_IdAndUser_Id(Long postId, Long userId);
+
+    /** 여러 게시글에 대한 내 반응(한 번에) */
+    List<PostReaction> findByUser_IdAndPost_IdIn(Long userId, Collection<Long> postIds);
+
+    /* ===== 토글용 단일 문장 DML (uk_reaction_post_user 에 기대어 동시 요청도 안전) =====
+       영향 행 수(0/1)로 어떤 전이가 일어났는지 판단 — 읽고 나서 쓰는 경합 구간이 없음
+       추가(INSERT)는 중복 키를 잡아야 해서 ReactionService 가 JDBC 로 직접 실행
+     */
+
+    /** 같은 타입이 이미 있으면 삭제(취소) */
+    @Modifying
+    @Query(value = "DELETE FROM post_reactions WHERE post_id = :postId AND user_id = :userId AND type = :type",
+            nativeQuery = true)
+    int deleteIfType(@Param("postId") Long postId, @Param("userId") Long userId, @Param("type") String type);
+
+    /** 다른 타입이면 전환 */
+    @Modifying
+    @Query(value = "UPDATE post_reactions SET type = :type WHERE post_id = :postId AND user_id = :userId AND type <> :type",
+            nativeQuery = true)
+    int switchType(@Param("postId") Long postId, @Param("userId") Long userId, @Param("type") String type);
+
+    /** (since, until] 사이 새로 생긴 type 반응 수 — 게시글별(인기 글 증분 집계) */
+    @Query("""
+           SELECT new com.example.backend.dto.PostDtos$PostCount(r.post.id, COUNT(r))
+           FROM PostReaction r
+           WHERE r.type = :type AND r.createdAt > :since AND r.createdAt <= :until
+           GROUP BY r.post.id
+           """)
+    List<PostCount> countCreatedByPost(@Param("type") Type type,
+                                       @Param("since") Instant since,
+                                       @Param("until") Instant until);
 }
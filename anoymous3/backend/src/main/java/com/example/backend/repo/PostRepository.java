@@ -2,13 +2,21 @@
 package com.example.backend.repo;
 
 import com.example.backend.domain.Post;
+import com.example.backend.dto.PostDtos.PostRef;
+import com.example.backend.dto.PostDtos.PostSummaryRes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -38,26 +46,146 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @EntityGraph(attributePaths = {"author"})
     Page<Post> findByNoticeFalseAndDeletedAtIsNull(Pageable pageable);
 
-    /* ===== (옵션) 통계 ===== */
-    long countByNoticeTrue();
+    /* ===== 목록/피드 요약 프로젝션 =====
+       본문(LONGTEXT)을 읽지 않도록 카드에 필요한 컬럼만 DTO 로 직접 select
+     */
+    @Query(value = """
+           SELECT new com.example.backend.dto.PostDtos$PostSummaryRes(
+               p.id, p.title, p.excerpt, a.activityId, p.createdAt)
+           FROM Post p LEFT JOIN p.author a
+           WHERE p.deletedAt IS NULL
+             AND (:notice IS NULL OR p.notice = :notice)
+           """,
+            countQuery = """
+           SELECT count(p) FROM Post p
+           WHERE p.deletedAt IS NULL
+             AND (:notice IS NULL OR p.notice = :notice)
+           """)
+    Page<PostSummaryRes> findSummaries(@Param("notice") Boolean notice, Pageable pageable);
+
+    /** findSummaries 의 Slice 판(count 쿼리 없음, size+1 조회로 다음 페이지 여부만) */
+    @Query("""
+           SELECT new com.example.backend.dto.PostDtos$PostSummaryRes(
+               p.id, p.title, p.excerpt, a.activityId, p.createdAt)
+           FROM Post p LEFT JOIN p.author a
+           WHERE p.deletedAt IS NULL
+             AND (:notice IS NULL OR p.notice = :notice)
+           """)
+    Slice<PostSummaryRes> findSummarySlice(@Param("notice") Boolean notice, Pageable pageable);
 
-    /* ===== 검색(제목/본문) + 공지 필터 + 삭제 제외 =====
-       ⚠ LOWER() 제거: p.content 가 CLOB(@Lob)이라 Hibernate 6에서 LOWER 인자로 허용되지 않음
+    /** 내 글 요약 목록(author_id 로 바로 필터 — 이메일 조인/조회 없음) */
+    @Query(value = """
+           SELECT new com.example.backend.dto.PostDtos$PostSummaryRes(
+               p.id, p.title, p.excerpt, a.activityId, p.createdAt)
+           FROM Post p JOIN p.author a
+           WHERE p.deletedAt IS NULL
+             AND p.author.id = :authorId
+           """,
+            countQuery = """
+           SELECT count(p) FROM Post p
+           WHERE p.deletedAt IS NULL
+             AND p.author.id = :authorId
+           """)
+    Page<PostSummaryRes> findSummariesByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    /** findSummariesByAuthorId 의 Slice 판 */
+    @Query("""
+           SELECT new com.example.backend.dto.PostDtos$PostSummaryRes(
+               p.id, p.title, p.excerpt, a.activityId, p.createdAt)
+           FROM Post p JOIN p.author a
+           WHERE p.deletedAt IS NULL
+             AND p.author.id = :authorId
+           """)
+    Slice<PostSummaryRes> findSummarySliceByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    /* ===== 키셋(커서) 피드: (createdAt, id) 기준 seek, count 쿼리 없음 =====
+       - cursorAt/cursorId 가 null 이면 첫 페이지
+       - pageable 은 LIMIT 용도(PageRequest.of(0, size + 1))로만 사용, 정렬은 쿼리에 고정
      */
-    @EntityGraph(attributePaths = {"author"})
     @Query("""
-           SELECT p FROM Post p
+           SELECT new com.example.backend.dto.PostDtos$PostSummaryRes(
+               p.id, p.title, p.excerpt, a.activityId, p.createdAt)
+           FROM Post p LEFT JOIN p.author a
            WHERE p.deletedAt IS NULL
              AND (:notice IS NULL OR p.notice = :notice)
              AND (
-               :q IS NULL
-               OR p.title   LIKE CONCAT('%', :q, '%')
-               OR p.content LIKE CONCAT('%', :q, '%')
+               :cursorAt IS NULL
+               OR p.createdAt < :cursorAt
+               OR (p.createdAt = :cursorAt AND p.id < :cursorId)
+             )
+           ORDER BY p.createdAt DESC, p.id DESC
+           """)
+    List<PostSummaryRes> findFeed(@Param("notice") Boolean notice,
+                                  @Param("cursorAt") Instant cursorAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable limit);
+
+    /** 내 글 키셋 피드 */
+    @Query("""
+           SELECT new com.example.backend.dto.PostDtos$PostSummaryRes(
+               p.id, p.title, p.excerpt, a.activityId, p.createdAt)
+           FROM Post p JOIN p.author a
+           WHERE p.deletedAt IS NULL
+             AND p.author.id = :authorId
+             AND (
+               :cursorAt IS NULL
+               OR p.createdAt < :cursorAt
+               OR (p.createdAt = :cursorAt AND p.id < :cursorId)
              )
+           ORDER BY p.createdAt DESC, p.id DESC
+           """)
+    List<PostSummaryRes> findFeedByAuthorId(@Param("authorId") Long authorId,
+                                            @Param("cursorAt") Instant cursorAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable limit);
+
+    /** 검색 결과(id 목록) → 요약 */
+    @Query("""
+           SELECT new com.example.backend.dto.PostDtos$PostSummaryRes(
+               p.id, p.title, p.excerpt, a.activityId, p.createdAt)
+           FROM Post p LEFT JOIN p.author a
+           WHERE p.deletedAt IS NULL
+             AND p.id IN :ids
            """)
-    Page<Post> search(@Param("q") String q,
-                      @Param("notice") Boolean notice,
-                      Pageable pageable);
+    List<PostSummaryRes> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /* ===== 검색 대체 경로(제목/미리보기 LIKE) + 공지 필터 + 삭제 제외 =====
+       색인(PostSearchIndex) 준비 전/실패 시에만. 본문은 post_bodies 에 (압축돼) 있어 LIKE 대상이 아님 → 부분 결과
+     */
+    @Query(value = """
+           SELECT new com.example.backend.dto.PostDtos$PostSummaryRes(
+               p.id, p.title, p.excerpt, a.activityId, p.createdAt)
+           FROM Post p LEFT JOIN p.author a
+           WHERE p.deletedAt IS NULL
+             AND (:notice IS NULL OR p.notice = :notice)
+             AND (p.title LIKE CONCAT('%', :q, '%') OR p.excerpt LIKE CONCAT('%', :q, '%'))
+           ORDER BY p.createdAt DESC, p.id DESC
+           """,
+           countQuery = """
+           SELECT count(p) FROM Post p
+           WHERE p.deletedAt IS NULL
+             AND (:notice IS NULL OR p.notice = :notice)
+             AND (p.title LIKE CONCAT('%', :q, '%') OR p.excerpt LIKE CONCAT('%', :q, '%'))
+           """)
+    Page<PostSummaryRes> searchTitleOrExcerpt(@Param("q") String q,
+                                              @Param("notice") Boolean notice,
+                                              Pageable pageable);
+
+    /** 검색 색인 재구성용 id 순 배치 조회(삭제 제외) */
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Pageable limit);
+
+    /** 조회수 증분 반영(PostViewCounter) — 같은 증가량의 글을 한 문장으로 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :ids")
+    int addViewCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    /* ===== (옵션) 통계 ===== */
+    long countByNoticeTrue();
+    long countByNoticeFalse();
+
+    /** 관리자 목록 Slice 판(count 쿼리 없음) */
+    Slice<Post> findSliceBy(Pageable pageable);
 
     /* ===== (옵션) 관리자용: 삭제 포함 조회 ===== */
     @Query(value = "SELECT * FROM posts ORDER BY created_at DESC",
@@ -80,4 +208,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     /** 특정 작성자의 글(삭제 포함/미포함 무관) 전체 조회 */
     java.util.List<Post> findByAuthor_Id(Long authorId);
+
+    /* ===== 사용자 삭제 작업(청크) ===== */
+
+    /** 작성자의 살아 있는 글 (id, notice) — id 키셋, @Where 로 삭제분 제외 */
+    @Query("""
+           SELECT new com.example.backend.dto.PostDtos$PostRef(p.id, p.notice)
+           FROM Post p
+           WHERE p.author.id = :authorId AND p.id > :afterId
+           ORDER BY p.id ASC
+           """)
+    List<PostRef> findRefsByAuthorId(@Param("authorId") Long authorId, @Param("afterId") Long afterId, Pageable limit);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.deletedAt = :now WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
 }
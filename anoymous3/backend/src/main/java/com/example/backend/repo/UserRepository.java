@@ -1,11 +1,22 @@
 package com.example.backend.repo;
 
 import com.example.backend.domain.User;
+import com.example.backend.dto.UserDtos.ActivityIdRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -13,6 +24,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
 
+    /** 엔티티 없이 id 만(쓰기 경로에서 참조용) */
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
     // 대소문자 무시 버전
     boolean existsByEmailIgnoreCase(String email);
     Optional<User> findByEmailIgnoreCase(String email);
@@ -22,8 +37,45 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByActivityIdIgnoreCase(String activityId);
     Optional<User> findByActivityIdIgnoreCase(String activityId);
 
+    /** 정규화 컬럼(uk_users_activity_id_norm) 기준 존재 여부 — 인덱스 조회 */
+    boolean existsByActivityIdNorm(String activityIdNorm);
+
+    /** Bloom filter 적재용(읽기 트랜잭션 안에서 사용) */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.activityIdNorm from User u where u.activityIdNorm is not null")
+    Stream<String> streamActivityIdNorms();
+
+    /** 정규화 컬럼 도입 이전 행(id 순, after 다음부터) — 채우기 전에 충돌 검사용 */
+    @Query("""
+           select new com.example.backend.dto.UserDtos$ActivityIdRow(u.id, u.activityId)
+           from User u
+           where u.activityIdNorm is null and u.id > :after
+           order by u.id
+           """)
+    List<ActivityIdRow> findActivityIdsWithoutNorm(@Param("after") Long after, Pageable pageable);
+
+    /** 정규화 값 채우기(한 행) — 그 사이 누가 채웠으면 0 */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET activity_id_norm = :norm WHERE id = :id AND activity_id_norm IS NULL",
+            nativeQuery = true)
+    int fillActivityIdNorm(@Param("id") Long id, @Param("norm") String norm);
+
+    /** 로그인 시 cost 변경에 따른 재해시 — 그 사이 해시가 바뀌었으면 0 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :id AND u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
     /* ===== 관리자: 목록/검색 ===== */
     Page<User> findByActivityIdContainingIgnoreCaseOrEmailContainingIgnoreCase(
             String activityId, String email, Pageable pageable
     );
+
+    /* Slice 판(count 쿼리 없음) */
+    Slice<User> findSliceBy(Pageable pageable);
+
+    Slice<User> findSliceByActivityIdContainingIgnoreCaseOrEmailContainingIgnoreCase(
+            String activityId, String email, Pageable pageable
+    );
 }
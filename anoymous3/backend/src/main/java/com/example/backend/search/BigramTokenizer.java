@@ -0,0 +1,81 @@
+// backend/src/main/java/com/example/backend/search/BigramTokenizer.java
+package com.example.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저.
+ * - 한글/CJK 연속 구간: 2-gram(바이그램)으로 분해 ("게시판" → "게시", "시판"), 한 글자면 그대로
+ *   → 형태소 분석 없이도 조사/어미가 붙은 형태("게시판에")와 부분 일치
+ * - 색인(tokenizeForIndex)은 CJK 글자 하나하나도 함께 넣음 → 한 글자 질의("게")도 "게시판" 과 일치
+ * - 영문/숫자 연속 구간: 소문자 단어 단위
+ * - 그 외(공백/기호): 구분자
+ * 색인과 질의가 같은 규칙을 공유해야 하므로 두 경로 모두 이 클래스를 사용.
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {}
+
+    /** 한 토큰으로 취급할 영문/숫자 단어의 최대 길이(비정상적으로 긴 문자열 방어) */
+    private static final int MAX_WORD = 40;
+
+    /** 질의용 — 한 글자 CJK 구간만 유니그램 */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /** 색인용 — 질의 토큰 + 2글자 이상 CJK 구간의 유니그램 */
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) return out;
+
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int n = s.length();
+        int i = 0;
+        while (i < n) {
+            char c = s.charAt(i);
+            if (isCjk(c)) {
+                int start = i;
+                while (i < n && isCjk(s.charAt(i))) i++;
+                emitBigrams(s, start, i, unigrams, out);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < n && Character.isLetterOrDigit(s.charAt(i)) && !isCjk(s.charAt(i))) i++;
+                out.add(s.substring(start, Math.min(i, start + MAX_WORD)));
+            } else {
+                i++;
+            }
+        }
+        return out;
+    }
+
+    private static void emitBigrams(String s, int start, int end, boolean unigrams, List<String> out) {
+        if (end - start == 1) {
+            out.add(s.substring(start, end));
+            return;
+        }
+        for (int k = start; k + 1 < end; k++) {
+            out.add(s.substring(k, k + 2));
+        }
+        if (unigrams) {
+            for (int k = start; k < end; k++) out.add(s.substring(k, k + 1));
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeBlock b = Character.UnicodeBlock.of(c);
+        return b == Character.UnicodeBlock.HANGUL_SYLLABLES
+                || b == Character.UnicodeBlock.HANGUL_JAMO
+                || b == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
+                || b == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+                || b == Character.UnicodeBlock.HIRAGANA
+                || b == Character.UnicodeBlock.KATAKANA;
+    }
+}
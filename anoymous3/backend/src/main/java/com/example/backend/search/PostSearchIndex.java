@@ -0,0 +1,149 @@
+// backend/src/main/java/com/example/backend/search/PostSearchIndex.java
+package com.example.backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 역색인(메모리).
+ * - term → (postId → 가중 빈도) 포스팅 리스트
+ * - 질의는 모든 토큰을 포함하는 문서(AND)만 대상으로 BM25 점수 정렬
+ * - 가장 짧은 포스팅 리스트부터 교집합을 구하므로 비용은 테이블 크기가 아니라 매칭 후보 수에 비례
+ * 읽기는 병렬, 쓰기는 단일(ReadWriteLock).
+ */
+public class PostSearchIndex {
+
+    /** 제목에 나온 토큰은 본문보다 가중 */
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private record Doc(int length, boolean notice, String[] terms) {}
+
+    public record Hits(List<Long> ids, int total) {}
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private long totalLength;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 색인 추가/갱신(같은 id 가 있으면 교체) */
+    public void put(Long id, String title, String content, boolean notice) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (String t : BigramTokenizer.tokenizeForIndex(title)) tf.merge(t, TITLE_WEIGHT, Integer::sum);
+        for (String t : BigramTokenizer.tokenizeForIndex(content)) tf.merge(t, 1, Integer::sum);
+        int length = tf.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(id, e.getValue());
+            }
+            docs.put(id, new Doc(length, notice, tf.keySet().toArray(String[]::new)));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 공지 여부만 바뀐 경우(본문 재색인 불필요) */
+    public void setNotice(Long id, boolean notice) {
+        lock.writeLock().lock();
+        try {
+            Doc d = docs.get(id);
+            if (d != null) docs.put(id, new Doc(d.length(), notice, d.terms()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param notice null 이면 전체, true/false 면 공지/일반만
+     * @return 점수 내림차순(동점이면 최신 id 우선) [offset, offset+limit) 구간과 전체 매칭 수
+     */
+    public Hits search(String q, Boolean notice, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(BigramTokenizer.tokenize(q)));
+        if (terms.isEmpty()) return new Hits(List.of(), 0);
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            for (String t : terms) {
+                Map<Long, Integer> p = postings.get(t);
+                if (p == null) return new Hits(List.of(), 0); // AND: 하나라도 없으면 매칭 없음
+                lists.add(p);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int n = docs.size();
+            double avgLen = n == 0 ? 1 : Math.max(1.0, (double) totalLength / n);
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).size();
+                idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            }
+
+            record Scored(Long id, double score) {}
+            List<Scored> matches = new ArrayList<>();
+            outer:
+            for (Map.Entry<Long, Integer> e : lists.get(0).entrySet()) {
+                Long id = e.getKey();
+                Doc d = docs.get(id);
+                if (d == null || (notice != null && d.notice() != notice)) continue;
+                double norm = K1 * (1 - B + B * d.length() / avgLen);
+                double score = 0;
+                for (int i = 0; i < lists.size(); i++) {
+                    Integer f = i == 0 ? e.getValue() : lists.get(i).get(id);
+                    if (f == null) continue outer;
+                    score += idf[i] * (f * (K1 + 1)) / (f + norm);
+                }
+                matches.add(new Scored(id, score));
+            }
+
+            matches.sort(Comparator.comparingDouble(Scored::score).reversed()
+                    .thenComparing(Scored::id, Comparator.reverseOrder()));
+            int from = Math.min(offset, matches.size());
+            int to = Math.min(from + limit, matches.size());
+            List<Long> ids = matches.subList(from, to).stream().map(Scored::id).toList();
+            return new Hits(ids, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Doc old = docs.remove(id);
+        if (old == null) return;
+        totalLength -= old.length();
+        for (String t : old.terms()) {
+            Map<Long, Integer> p = postings.get(t);
+            if (p == null) continue;
+            p.remove(id);
+            if (p.isEmpty()) postings.remove(t);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+// backend/src/main/java/com/example/backend/security/AuthUser.java
+package com.example.backend.security;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+
+/**
+ * JwtFilter 가 SecurityContext 에 넣는 인증 주체.
+ * 토큰의 uid 클레임을 그대로 들고 있어 서비스에서 users 테이블을 다시 조회하지 않아도 됨.
+ * getName() 은 기존과 같이 이메일을 돌려줌(auth.getName() 호환).
+ */
+public record AuthUser(Long id, String email, String role) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equalsIgnoreCase(role);
+    }
+
+    /** 현재 요청의 인증 주체(미인증/익명이면 null) */
+    public static AuthUser current() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken) return null;
+        return auth.getPrincipal() instanceof AuthUser me ? me : null;
+    }
+
+    /** 현재 사용자 id(미인증이면 null) */
+    public static Long currentId() {
+        AuthUser me = current();
+        return me != null ? me.id() : null;
+    }
+}
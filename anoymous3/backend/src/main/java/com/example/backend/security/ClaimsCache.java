@@ -0,0 +1,143 @@
+// backend/src/main/java/com/example/backend/security/ClaimsCache.java
+package com.example.backend.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 캐시.
+ * - 키: 토큰의 서명 세그먼트(HMAC 값이라 이미 다이제스트, 원본 토큰을 힙에 들고 있지 않음)
+ *   + header.payload 해시를 함께 비교해 서명만 붙여 바꾼 토큰은 캐시에서 걸러 냄
+ * - 토큰 만료(exp) 시각까지만 유효, exp 없는 토큰은 캐시하지 않음
+ * - uid 클레임 없는 이전 발급 토큰은 이메일로 찾은 사용자 id 도 같은 항목에 붙여 둠(요청마다 DB 조회 방지)
+ * - 최대 개수를 넘으면 근사 LRU: 순환 커서로 몇 개만 표본 → 만료 항목 또는 가장 오래 안 쓴 항목 제거
+ *   (새 토큰은 항상 들어감, 제거는 한 스레드만 — 동시 put 만큼 잠깐 넘칠 수 있음)
+ */
+class ClaimsCache {
+
+    /** 제거 한 번에 보는 항목 수 */
+    private static final int EVICTION_SAMPLE = 8;
+    /** 최근 사용 시각 갱신 간격 — 같은 토큰 동시 조회 시 쓰기 경합 방지 */
+    private static final long TOUCH_INTERVAL_MILLIS = 1_000;
+    /** Entry.userId — 아직 조회 전 */
+    static final long USER_UNRESOLVED = 0;
+    /** Entry.userId — 조회했지만 없는 사용자 */
+    static final long USER_MISSING = -1;
+
+    private static final class Entry {
+        final String key;
+        final int signedHash;
+        final Claims claims;
+        final long expiresAtMillis;
+        volatile long lastAccessMillis;
+        /** 이메일로 찾은 사용자 id(uid 없는 토큰용) — USER_UNRESOLVED/USER_MISSING 또는 PK */
+        volatile long userId = USER_UNRESOLVED;
+
+        Entry(String key, int signedHash, Claims claims, long expiresAtMillis, long now) {
+            this.key = key;
+            this.signedHash = signedHash;
+            this.claims = claims;
+            this.expiresAtMillis = expiresAtMillis;
+            this.lastAccessMillis = now;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    private final ReentrantLock evictLock = new ReentrantLock();
+    /** evictLock 보유 중에만 사용 — 표를 한 바퀴씩 돌며 표본 추출 */
+    private Iterator<Entry> cursor;
+
+    ClaimsCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    Claims get(String token) {
+        Entry e = live(token);
+        return e == null ? null : e.claims;
+    }
+
+    /** 이 토큰에 붙여 둔 사용자 id — 캐시에 없거나 아직 조회 전이면 USER_UNRESOLVED */
+    long userId(String token) {
+        Entry e = live(token);
+        return e == null ? USER_UNRESOLVED : e.userId;
+    }
+
+    /** 사용자 id 조회 결과를 토큰 항목에 붙임(항목이 없으면 무시 — 다음 put 이후 다시 조회) */
+    void putUserId(String token, long userId) {
+        Entry e = live(token);
+        if (e != null) e.userId = userId;
+    }
+
+    void put(String token, Claims claims) {
+        if (maxEntries <= 0 || claims.getExpiration() == null) return;
+        int dot = token.lastIndexOf('.');
+        if (dot < 0 || dot == token.length() - 1) return; // 서명 없는 토큰
+        long exp = claims.getExpiration().getTime();
+        long now = System.currentTimeMillis();
+        if (exp <= now) return;
+
+        String key = token.substring(dot + 1);
+        entries.put(key, new Entry(key, signedHash(token, dot), claims, exp, now));
+        if (entries.size() > maxEntries && evictLock.tryLock()) {
+            try {
+                while (entries.size() > maxEntries && evictOne(now)) {
+                    // 표본 제거 반복
+                }
+            } finally {
+                evictLock.unlock();
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** 서명·header.payload 가 맞고 만료 전인 항목(최근 사용 시각 갱신) */
+    private Entry live(String token) {
+        if (maxEntries <= 0) return null;
+        int dot = token.lastIndexOf('.');
+        if (dot < 0) return null;
+        Entry e = entries.get(token.substring(dot + 1));
+        if (e == null || e.signedHash != signedHash(token, dot)) return null;
+        long now = System.currentTimeMillis();
+        if (e.expiresAtMillis <= now) {
+            entries.remove(e.key, e);
+            return null;
+        }
+        if (now - e.lastAccessMillis > TOUCH_INTERVAL_MILLIS) e.lastAccessMillis = now;
+        return e;
+    }
+
+    /** 표본 중 만료 항목(바로 제거) 또는 가장 오래 안 쓴 항목 제거 — 비어 있으면 false */
+    private boolean evictOne(long now) {
+        Entry victim = null;
+        for (int i = 0; i < EVICTION_SAMPLE; i++) {
+            if (cursor == null || !cursor.hasNext()) {
+                cursor = entries.values().iterator();
+                if (!cursor.hasNext()) break;
+            }
+            Entry e = cursor.next();
+            if (e.expiresAtMillis <= now) {
+                victim = e;
+                break;
+            }
+            if (victim == null || e.lastAccessMillis < victim.lastAccessMillis) victim = e;
+        }
+        if (victim == null) return false;
+        entries.remove(victim.key, victim);
+        return true;
+    }
+
+    /** header.payload 부분의 String.hashCode 와 같은 값(부분 문자열 생성 없이) */
+    private static int signedHash(String token, int dot) {
+        int h = 0;
+        for (int i = 0; i < dot; i++) h = 31 * h + token.charAt(i);
+        return h;
+    }
+}
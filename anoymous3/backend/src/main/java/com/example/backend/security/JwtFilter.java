@@ -1,6 +1,7 @@
 // backend/src/main/java/com/example/backend/security/JwtFilter.java
 package com.example.backend.security;
 
+import com.example.backend.repo.UserRepository;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,20 +24,26 @@ import java.util.Optional;
 public class JwtFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
     private final JwtUtil jwtUtil;
+    private final UserRepository userRepo;
 
-    public JwtFilter(JwtUtil jwtUtil) { this.jwtUtil = jwtUtil; }
+    public JwtFilter(JwtUtil jwtUtil, UserRepository userRepo) {
+        this.jwtUtil = jwtUtil;
+        this.userRepo = userRepo;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
             throws ServletException, IOException {
 
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
-            Optional<Claims> claims = resolveToken(req).flatMap(jwtUtil::parseClaims);
+            Optional<String> token = resolveToken(req);
+            Optional<Claims> claims = token.flatMap(jwtUtil::parseClaims);
 
             if (claims.isPresent()) {
                 Claims body = claims.get();
                 String email = body.getSubject();
-                if (StringUtils.hasText(email)) {
+                Long uid = resolveUserId(token.get(), body, email);
+                if (StringUtils.hasText(email) && uid != null) {
                     String role = body.get("role", String.class);
 
                     List<GrantedAuthority> auths = new ArrayList<>();
@@ -45,7 +52,8 @@ public class JwtFilter extends OncePerRequestFilter {
                         auths.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
                     }
 
-                    Authentication auth = new UsernamePasswordAuthenticationToken(email, null, auths);
+                    AuthUser principal = new AuthUser(uid, email, role);
+                    Authentication auth = new UsernamePasswordAuthenticationToken(principal, null, auths);
                     SecurityContextHolder.getContext().setAuthentication(auth);
                 } else {
                     SecurityContextHolder.clearContext();
@@ -58,6 +66,21 @@ public class JwtFilter extends OncePerRequestFilter {
         chain.doFilter(req, res);
     }
 
+    /**
+     * uid 클레임 우선. uid 가 없는 이전 발급 토큰은 이메일로 조회하되
+     * 결과(없는 사용자 포함)를 클레임 캐시 항목에 붙여 같은 토큰은 다시 조회하지 않음.
+     */
+    private Long resolveUserId(String token, Claims body, String email) {
+        if (body.get(JwtUtil.CLAIM_USER_ID) instanceof Number n) return n.longValue();
+        if (!StringUtils.hasText(email)) return null;
+        long cached = jwtUtil.cachedUserId(token);
+        if (cached == ClaimsCache.USER_MISSING) return null;
+        if (cached != ClaimsCache.USER_UNRESOLVED) return cached;
+        Long id = userRepo.findIdByEmail(email).orElse(null);
+        jwtUtil.cacheUserId(token, id != null ? id : ClaimsCache.USER_MISSING);
+        return id;
+    }
+
     private Optional<String> resolveToken(HttpServletRequest request) {
         String header = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (!StringUtils.hasText(header) || !header.startsWith(BEARER_PREFIX)) {
@@ -14,15 +14,25 @@ import java.util.Optional;
 
 @Component
 public class JwtUtil {
+    /** 사용자 PK 클레임(JwtFilter 가 AuthUser.id 로 사용) */
+    public static final String CLAIM_USER_ID = "uid";
+
     private final Key key;
     private final long expirationMillis;
+    /** 불변·스레드 안전 — 요청마다 새로 만들지 않고 공유 */
+    private final JwtParser parser;
+    /** 같은 토큰 재요청 시 서명 검증/JSON 파싱 생략 */
+    private final ClaimsCache claimsCache;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expirationMillis}") long expirationMillis
+            @Value("${jwt.expirationMillis}") long expirationMillis,
+            @Value("${jwt.claims-cache.max-entries:10000}") int claimsCacheSize
     ) {
         this.key = Keys.hmacShaKeyFor(resolveSecret(secret));
         this.expirationMillis = expirationMillis;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.claimsCache = new ClaimsCache(claimsCacheSize);
     }
 
     public String createToken(String subject, Map<String, Object> claims) {
@@ -37,17 +47,31 @@ public class JwtUtil {
     }
 
     public Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return parser.parseClaimsJws(token);
     }
 
+    /** 검증된 클레임(캐시 우선). 위조/만료/형식 오류면 empty */
     public Optional<Claims> parseClaims(String token) {
+        Claims cached = claimsCache.get(token);
+        if (cached != null) return Optional.of(cached);
         try {
-            return Optional.of(parse(token).getBody());
+            Claims claims = parse(token).getBody();
+            claimsCache.put(token, claims);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException ex) {
             return Optional.empty();
         }
     }
 
+    /** uid 없는 토큰에 붙여 둔 사용자 id(ClaimsCache.USER_UNRESOLVED / USER_MISSING 포함) */
+    long cachedUserId(String token) {
+        return claimsCache.userId(token);
+    }
+
+    void cacheUserId(String token, long userId) {
+        claimsCache.putUserId(token, userId);
+    }
+
     private byte[] resolveSecret(String secret) {
         byte[] keyBytes = decodeSecret(secret);
         if (keyBytes.length < 32) {
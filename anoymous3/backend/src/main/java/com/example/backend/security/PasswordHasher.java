@@ -0,0 +1,179 @@
+// backend/src/main/java/com/example/backend/security/PasswordHasher.java
+package com.example.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * BCrypt 해시/검증 전용 풀.
+ * - 코어 수만큼의 고정 스레드 + 유한 큐: 로그인 폭주 때도 해시 CPU 는 풀 크기로 묶이고,
+ *   큐가 차면 즉시 RejectedExecutionException(→ 503) 으로 끊어 톰캣 워커가 줄지어 묶이지 않음
+ * - cost: auth.bcrypt.cost 로 고정하거나, 0(기본)이면 기동 시 auth.bcrypt.target 지연에 맞춰 보정
+ * - 저장된 해시의 cost 가 현재 값보다 낮으면 needsRehash() → 로그인 성공 시 재해시
+ *   (보정값은 기동/머신마다 조금씩 달라 높은 쪽은 그대로 둠 — 노드 간 낮추기/오락가락 방지)
+ * 지표: auth.hash.rejected, auth.hash.queue
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    /** 보정 하한/상한(하한 아래로는 내려가지 않음) */
+    static final int MIN_COST = 10;
+    static final int MAX_COST = 16;
+    /** 보정 측정 횟수(최솟값 사용) */
+    static final int CALIBRATION_RUNS = 5;
+
+    private static final String BUSY = "로그인 요청이 많습니다. 잠시 후 다시 시도하세요.";
+
+    private final int cost;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor pool;
+    private final Counter rejected;
+
+    public PasswordHasher(
+            @Value("${auth.bcrypt.cost:0}") int cost,
+            @Value("${auth.bcrypt.target:250ms}") Duration target,
+            @Value("${auth.hash.pool-size:0}") int poolSize,
+            @Value("${auth.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.hash.timeout:5s}") Duration timeout,
+            MeterRegistry meters
+    ) {
+        this.cost = cost > 0 ? cost : calibrate(target.toMillis());
+        this.timeoutMillis = timeout.toMillis();
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                r -> {
+                    Thread t = new Thread(r, "pw-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("auth.hash.rejected").register(meters);
+        Gauge.builder("auth.hash.queue", pool, p -> p.getQueue().size()).register(meters);
+        log.info("BCrypt cost={} (threads={}, queue={})", this.cost, threads, queueCapacity);
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    /** 새 비밀번호 해시(현재 cost) */
+    public String hash(String raw) {
+        return call(() -> BCrypt.hashpw(raw, BCrypt.gensalt(cost)));
+    }
+
+    /** 비밀번호 검증 */
+    public boolean matches(String raw, String hash) {
+        return call(() -> BCrypt.checkpw(raw, hash));
+    }
+
+    /** 저장된 해시의 cost 가 현재 설정보다 낮으면 true(형식을 모르는 해시 포함) */
+    public boolean needsRehash(String hash) {
+        return costOf(hash) < cost;
+    }
+
+    /**
+     * 현재 cost 로 재해시해 onHashed 로 넘김(응답을 기다리게 하지 않음).
+     * 풀이 바쁘면 건너뜀 — 다음 로그인 때 다시 시도됨.
+     */
+    public void rehashAsync(String raw, Consumer<String> onHashed) {
+        try {
+            pool.execute(() -> {
+                try {
+                    onHashed.accept(BCrypt.hashpw(raw, BCrypt.gensalt(cost)));
+                } catch (RuntimeException e) {
+                    log.warn("Password rehash failed: {}", e.toString());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /* ===== helpers ===== */
+
+    private <T> T call(Callable<T> task) {
+        Future<T> f;
+        try {
+            f = pool.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new RejectedExecutionException(BUSY, e);
+        }
+        try {
+            return f.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            f.cancel(true);
+            rejected.increment();
+            throw new RejectedExecutionException(BUSY, e);
+        } catch (InterruptedException e) {
+            f.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(BUSY, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** "$2a$12$..." → 12, 형식이 다르면 -1 */
+    static int costOf(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$' || hash.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * MIN_COST 를 CALIBRATION_RUNS 번 측정해 가장 빠른 값 사용(GC/JIT/다른 기동 작업 잡음 제거),
+     * cost +1 마다 두 배가 되는 성질로 목표 지연을 넘지 않는 최대 cost 선택
+     */
+    static int calibrate(long targetMillis) {
+        BCrypt.hashpw("calibrate", BCrypt.gensalt(MIN_COST)); // 워밍업
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+            long t0 = System.nanoTime();
+            BCrypt.hashpw("calibrate", BCrypt.gensalt(MIN_COST));
+            best = Math.min(best, System.nanoTime() - t0);
+        }
+        long millis = Math.max(TimeUnit.NANOSECONDS.toMillis(best), 1);
+
+        int c = MIN_COST;
+        while (c < MAX_COST && millis * 2 <= targetMillis) {
+            c++;
+            millis *= 2;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,72 @@
+// backend/src/main/java/com/example/backend/security/RateLimitFilter.java
+package com.example.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증/쓰기 경로 유입 제한(JwtFilter 뒤).
+ * 로그인 사용자는 사용자 id, 그 외(로그인/가입/인증코드)는 클라이언트 IP 기준.
+ * 초과 시 컨트롤러/DB/BCrypt 까지 가지 않고 바로 429 + Retry-After.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String TOO_MANY = "{\"error\":\"요청이 너무 많습니다. 잠시 후 다시 시도하세요.\"}";
+
+    private final RateLimiter limiter;
+    private final boolean trustForwarded;
+
+    public RateLimitFilter(RateLimiter limiter, boolean trustForwarded) {
+        this.limiter = limiter;
+        this.trustForwarded = trustForwarded;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        return !limiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+
+        String path = req.getRequestURI().substring(req.getContextPath().length());
+        RateLimiter.Route route = RateLimiter.Route.of(req.getMethod(), path);
+        if (route == null) {
+            chain.doFilter(req, res);
+            return;
+        }
+
+        Long uid = AuthUser.currentId();
+        String client = uid != null ? "u" + uid : "ip" + clientIp(req);
+        RateLimiter.Decision d = limiter.tryAcquire(route, client);
+        if (!d.admitted()) {
+            res.setStatus(429);
+            res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((d.retryAfterMillis() + 999) / 1000));
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            res.getWriter().write(TOO_MANY);
+            return;
+        }
+        chain.doFilter(req, res);
+    }
+
+    /** 프록시 뒤라면(rate-limit.trust-forwarded) X-Forwarded-For 첫 값 */
+    private String clientIp(HttpServletRequest req) {
+        if (trustForwarded) {
+            String xff = req.getHeader("X-Forwarded-For");
+            if (xff != null && !xff.isBlank()) {
+                int comma = xff.indexOf(',');
+                return (comma < 0 ? xff : xff.substring(0, comma)).trim();
+            }
+        }
+        return req.getRemoteAddr();
+    }
+}
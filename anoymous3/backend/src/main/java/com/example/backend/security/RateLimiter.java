@@ -0,0 +1,209 @@
+// backend/src/main/java/com/example/backend/security/RateLimiter.java
+package com.example.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 경로별 요청 허용량(토큰 버킷, GCRA 방식).
+ * - 버킷 = AtomicLong 하나(다음 허용 이론 시각 TAT, 경로 허용 오차를 함께 보관), 판정은 CAS 루프 — 락 없음
+ * - 버킷 표는 ConcurrentHashMap: 조회/삽입도 락 없음
+ * - 정리는 요청 경로 밖: 주기 sweep 이 다 찬(TAT ≤ now) 버킷을 지움 — 새 버킷과 동작이 같아 판정에 영향 없음.
+ *   max-keys 를 넘기면 그 요청 하나만(tryLock) 같은 정리 후 그래도 넘치면 지금 허용 중인 버킷만
+ *   가장 많이 회복된(다음 허용 시각이 이른) 순으로 10% 여유까지 지움.
+ *   거절 중인 버킷(다음 허용 시각이 미래)은 지우지 않음 — 지우면 남용 클라이언트의 제한이 풀림.
+ *   전부 거절 중이면 상한을 잠시 넘기고, 가장 먼저 풀리는 시각까지 정리를 쉼
+ * - 예산 형식 "요청수/기간" (예: 10/PT1M → 1분 10회, 버스트 10)
+ * 지표: http.admission{route, result=admitted|rejected}
+ */
+@Component
+public class RateLimiter {
+
+    /** 제한 대상 경로 */
+    public enum Route {
+        LOGIN, SEND_CODE, SIGNUP, REACTION, WRITE;
+
+        private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+        /** 제한 대상이 아니면 null */
+        public static Route of(String method, String path) {
+            boolean post = HttpMethod.POST.matches(method);
+            if (post && path.equals("/api/auth/login")) return LOGIN;
+            if (post && path.equals("/api/auth/send-code")) return SEND_CODE;
+            if (post && (path.equals("/api/auth/signup") || path.equals("/api/auth/verify-code"))) return SIGNUP;
+            if (post && PATHS.match("/api/posts/*/reactions", path)) return REACTION;
+            boolean write = !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)
+                    && !HttpMethod.OPTIONS.matches(method);
+            if (write && (path.startsWith("/api/posts") || path.startsWith("/api/comments"))) return WRITE;
+            return null;
+        }
+    }
+
+    /** 버킷 = TAT + 그 경로의 허용 오차(정리 시 "다음 허용 시각" 계산용) */
+    private static final class Bucket extends AtomicLong {
+        final long toleranceNanos;
+
+        Bucket(long toleranceNanos) {
+            // 새 키는 TAT 최소값 → 첫 요청부터 버스트 전체 사용 가능
+            super(Long.MIN_VALUE);
+            this.toleranceNanos = toleranceNanos;
+        }
+
+        /** 다음 요청이 허용되는 시각(TAT - 허용 오차) */
+        long nextAllowedAt() {
+            long tat = get();
+            return tat < Long.MIN_VALUE + toleranceNanos ? Long.MIN_VALUE : tat - toleranceNanos;
+        }
+    }
+
+    private record Candidate(String key, Bucket bucket, long nextAllowedAt) {}
+
+    /** 판정 결과(거절 시 재시도까지 남은 시간) */
+    public record Decision(boolean admitted, long retryAfterMillis) {}
+
+    private record Budget(long intervalNanos, long toleranceNanos) {
+        static Budget parse(String spec) {
+            String[] parts = spec.split("/", 2);
+            long n = Long.parseLong(parts[0].trim());
+            Duration period = Duration.parse(parts[1].trim());
+            if (n <= 0 || period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("잘못된 rate-limit 설정: " + spec);
+            }
+            long interval = period.toNanos() / n;
+            return new Budget(interval, interval * (n - 1)); // 버스트 n
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxKeys;
+    private final Map<Route, Budget> budgets = new EnumMap<>(Route.class);
+    private final Map<Route, Counter> admitted = new EnumMap<>(Route.class);
+    private final Map<Route, Counter> rejected = new EnumMap<>(Route.class);
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock trimLock = new ReentrantLock();
+    /** trimLock 보유 중에만 갱신 — 지울 수 있는 버킷이 없을 때 다음 정리 시도 시각 */
+    private volatile long trimPausedUntil = Long.MIN_VALUE;
+
+    /** 단조 시계(ns) — 테스트에서 교체 */
+    LongSupplier clock = System::nanoTime;
+
+    public RateLimiter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${rate-limit.login:10/PT1M}") String login,
+            @Value("${rate-limit.send-code:5/PT10M}") String sendCode,
+            @Value("${rate-limit.signup:20/PT10M}") String signup,
+            @Value("${rate-limit.reaction:60/PT1M}") String reaction,
+            @Value("${rate-limit.write:30/PT1M}") String write,
+            MeterRegistry meters
+    ) {
+        this.enabled = enabled;
+        this.maxKeys = Math.max(maxKeys, 1);
+        budgets.put(Route.LOGIN, Budget.parse(login));
+        budgets.put(Route.SEND_CODE, Budget.parse(sendCode));
+        budgets.put(Route.SIGNUP, Budget.parse(signup));
+        budgets.put(Route.REACTION, Budget.parse(reaction));
+        budgets.put(Route.WRITE, Budget.parse(write));
+        for (Route r : Route.values()) {
+            String tag = r.name().toLowerCase();
+            admitted.put(r, Counter.builder("http.admission").tag("route", tag).tag("result", "admitted").register(meters));
+            rejected.put(r, Counter.builder("http.admission").tag("route", tag).tag("result", "rejected").register(meters));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** route 예산에서 client 키로 1건 차감 시도 */
+    public Decision tryAcquire(Route route, String client) {
+        Budget b = budgets.get(route);
+        Bucket tat = bucket(route.name() + ':' + client, b);
+        long now = clock.getAsLong();
+        while (true) {
+            long cur = tat.get();
+            long start = Math.max(cur, now);
+            long wait = start - now - b.toleranceNanos();
+            if (wait > 0) {
+                rejected.get(route).increment();
+                return new Decision(false, Math.max(Duration.ofNanos(wait).toMillis(), 1));
+            }
+            if (tat.compareAndSet(cur, start + b.intervalNanos())) {
+                admitted.get(route).increment();
+                return new Decision(true, 0);
+            }
+        }
+    }
+
+    /**
+     * 다 찬 버킷 정리. 정리와 겹친 요청은 지워진 버킷에 기록될 수 있으나,
+     * 이미 다 찬 버킷이었으므로 차이는 그 키의 1건뿐.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:PT1M}")
+    public void sweep() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(tat -> tat.get() <= now);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private Bucket bucket(String key, Budget budget) {
+        Bucket tat = buckets.get(key);
+        if (tat != null) return tat;
+        tat = buckets.computeIfAbsent(key, k -> new Bucket(budget.toleranceNanos()));
+        if (buckets.size() > maxKeys && trimLock.tryLock()) {
+            try {
+                trim(key);
+            } finally {
+                trimLock.unlock();
+            }
+        }
+        return tat;
+    }
+
+    /**
+     * 상한 초과 시: (방금 넣은 키 말고) 다 찬 버킷 정리 → 그래도 넘치면 방금 넣은 키와 거절 중인 버킷을 빼고
+     * 다음 허용 시각이 이른 순으로 90% 까지 제거.
+     */
+    private void trim(String keep) {
+        long now = clock.getAsLong();
+        if (now < trimPausedUntil) return;
+        // 방금 넣은 키는 아직 TAT 최소값(다 찬 상태)이라 sweep 대상 — 지우면 이번 요청이 표 밖 버킷에 기록됨
+        buckets.entrySet().removeIf(e -> e.getValue().get() <= now && !e.getKey().equals(keep));
+        int excess = buckets.size() - (maxKeys - maxKeys / 10);
+        if (excess <= 0) return;
+
+        // 정렬 중 값이 바뀌지 않게 다음 허용 시각을 먼저 찍어 둠
+        List<Candidate> idle = new ArrayList<>();
+        long pausedUntil = Long.MAX_VALUE;
+        for (Map.Entry<String, Bucket> e : buckets.entrySet()) {
+            if (e.getKey().equals(keep)) continue;
+            long next = e.getValue().nextAllowedAt();
+            if (next <= now) idle.add(new Candidate(e.getKey(), e.getValue(), next));
+            else pausedUntil = Math.min(pausedUntil, next);
+        }
+        idle.sort(Comparator.comparingLong(Candidate::nextAllowedAt));
+        for (int i = 0; i < excess && i < idle.size(); i++) {
+            buckets.remove(idle.get(i).key(), idle.get(i).bucket());
+        }
+        trimPausedUntil = idle.size() < excess ? pausedUntil : Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.User;
+import com.example.backend.dto.UserDtos.ActivityIdRow;
+import com.example.backend.repo.UserRepository;
+import com.example.backend.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 활동아이디 사용 여부 판별.
+ * - 메모리 Bloom filter 가 "없음"이라고 하면 DB 를 보지 않고 바로 사용 가능
+ * - "있을 수도 있음"일 때만 정규화 컬럼(유니크 인덱스)으로 확인
+ * 가입/아이디 변경 시 register() 로 필터에 반영. 주기 점검에서 예상 용량을 넘었거나
+ * 오래된 필터(앱 밖에서 직접 넣은 계정 반영용)는 다시 구성.
+ * 시작 시 정규화 컬럼이 빈 옛 행을 채움 — 정규화 후 겹치는 아이디("Bob"/"bob")는 채우지 않고 로그로 남김
+ * (먼저 쓰던 쪽이 값을 가지므로 중복 검사는 그대로 동작, 겹친 계정은 운영자가 정리).
+ */
+@Slf4j
+@Service
+public class ActivityIdRegistry {
+
+    private static final int BACKFILL_BATCH = 1000;
+
+    private final UserRepository userRepo;
+    private final TransactionTemplate readTx;
+    private final long minCapacity;
+    private final double fpp;
+    private final Duration maxAge;
+
+    /** null 이면 아직 적재 전 → 항상 DB 조회 */
+    private volatile BloomFilter filter;
+    /** 재구성 중인 새 필터(재구성 동안의 register 도 함께 반영) */
+    private volatile BloomFilter building;
+    private volatile Instant builtAt = Instant.EPOCH;
+
+    public ActivityIdRegistry(
+            UserRepository userRepo,
+            TransactionTemplate transactionTemplate,
+            @Value("${users.activity-id-filter.capacity:100000}") long minCapacity,
+            @Value("${users.activity-id-filter.fpp:0.01}") double fpp,
+            @Value("${users.activity-id-filter.max-age:PT6H}") Duration maxAge
+    ) {
+        this.userRepo = userRepo;
+        this.readTx = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readTx.setReadOnly(true);
+        this.minCapacity = minCapacity;
+        this.fpp = fpp;
+        this.maxAge = maxAge;
+    }
+
+    /** 정규화된 아이디가 이미 쓰이고 있는지 */
+    public boolean isTaken(String normActivityId) {
+        if (normActivityId == null) return false;
+        BloomFilter f = filter;
+        if (f != null && !f.mightContain(normActivityId)) return false;
+        return userRepo.existsByActivityIdNorm(normActivityId);
+    }
+
+    /** 가입/변경으로 새로 쓰이게 된 아이디 반영(롤백돼도 오탐일 뿐이라 커밋 전에 넣어도 안전) */
+    public void register(String normActivityId) {
+        if (normActivityId == null) return;
+        BloomFilter f = filter;
+        if (f != null) f.put(normActivityId);
+        BloomFilter b = building;
+        if (b != null) b.put(normActivityId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            backfillNorms();
+        } catch (RuntimeException ex) {
+            // 채우기 실패로 부팅을 막지 않음 — 남은 행은 다음 시작 때 다시 시도
+            log.error("activity-id norm backfill failed — continuing startup", ex);
+        }
+        rebuild();
+    }
+
+    /**
+     * 정규화 값이 없는 행을 id 순으로 채움.
+     * 이미 쓰이는 값이거나 같은 배치 안에서 겹치면 건너뛰고 두 계정 id 를 경고로 남김.
+     * 그 사이 가입 등으로 유니크 키에 걸리는 행도 건너뜀(한 행 실패가 나머지를 막지 않음).
+     */
+    private void backfillNorms() {
+        long after = 0;
+        int filled = 0;
+        int skipped = 0;
+        List<ActivityIdRow> rows;
+        do {
+            rows = userRepo.findActivityIdsWithoutNorm(after, PageRequest.of(0, BACKFILL_BATCH));
+            Map<String, Long> batch = new HashMap<>();
+            for (ActivityIdRow row : rows) {
+                after = row.id();
+                String norm = User.normalizeActivityId(row.activityId());
+                if (norm == null) continue;
+                Long clash = batch.putIfAbsent(norm, row.id());
+                if (clash != null || userRepo.existsByActivityIdNorm(norm)) {
+                    log.warn("activity-id norm collision: user id={} activityId='{}' normalizes to '{}' already taken{} — left unfilled",
+                            row.id(), row.activityId(), norm, clash != null ? " by user id=" + clash : "");
+                    skipped++;
+                    continue;
+                }
+                try {
+                    filled += userRepo.fillActivityIdNorm(row.id(), norm);
+                } catch (DataIntegrityViolationException ex) {
+                    log.warn("activity-id norm collision: user id={} activityId='{}' ('{}') — left unfilled",
+                            row.id(), row.activityId(), norm);
+                    skipped++;
+                }
+            }
+        } while (rows.size() == BACKFILL_BATCH);
+        if (filled > 0 || skipped > 0) {
+            log.info("activity-id norm backfill: filled={}, collisions={}", filled, skipped);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${users.activity-id-filter.check-interval:PT10M}")
+    public void refreshIfStale() {
+        BloomFilter f = filter;
+        if (f == null) return; // 첫 적재 전
+        if (f.isSaturated() || builtAt.plus(maxAge).isBefore(Instant.now())) rebuild();
+    }
+
+    private synchronized void rebuild() {
+        long users = userRepo.count();
+        BloomFilter fresh = new BloomFilter(Math.max(minCapacity, users * 2), fpp);
+        building = fresh;
+        try {
+            readTx.executeWithoutResult(status -> {
+                try (Stream<String> ids = userRepo.streamActivityIdNorms()) {
+                    ids.forEach(fresh::put);
+                }
+            });
+            filter = fresh;
+            builtAt = Instant.now();
+            log.info("activity-id bloom filter ready: users={}, capacity={}", users, fresh.capacity());
+        } catch (RuntimeException ex) {
+            log.error("activity-id bloom filter build failed — falling back to DB lookups", ex);
+        } finally {
+            building = null;
+        }
+    }
+}
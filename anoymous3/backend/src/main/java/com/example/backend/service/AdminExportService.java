@@ -0,0 +1,294 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.Comment;
+import com.example.backend.domain.Post;
+import com.example.backend.domain.PostBody;
+import com.example.backend.domain.User;
+import com.example.backend.dto.AdminDtos.UserAdminRes;
+import com.example.backend.dto.CommentDtos.CommentRow;
+import com.example.backend.dto.PostDtos.PostAdminRes;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import javax.sql.DataSource;
+
+/**
+ * 관리자 전체 내보내기(게시글/댓글/사용자) — NDJSON 또는 CSV 스트리밍.
+ * - 읽기 전용 트랜잭션 하나에서 Hibernate ScrollableResults(FORWARD_ONLY, fetch-size 제한)로 한 행씩 읽어 바로 씀
+ * - fetch-size 행마다 영속성 컨텍스트 clear → 행 수와 무관하게 메모리 일정
+ * - 응답은 StreamingResponseBody 로 요청 스레드 밖에서 기록(타임아웃은 admin.export.timeout, WebAsyncConfig)
+ * MySQL(Connector/J)은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch-size 단위로 받아옴.
+ * 없으면 결과 전체를 메모리에 올리므로 기동 시 확인해 fetch-size 를 Integer.MIN_VALUE(행 단위 스트리밍)로 바꿈
+ * — 이 모드에선 커서가 열린 동안 같은 커넥션으로 다른 쿼리를 못 하므로, 본문 이전 중(보충 조회 필요) 게시글 내보내기는 503.
+ */
+@Slf4j
+@Service
+public class AdminExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv; charset=UTF-8", "csv");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        /** null/빈 값이면 NDJSON, 모르는 값이면 400 */
+        public static Format of(String value) {
+            if (value == null || value.isBlank()) return NDJSON;
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("format 은 ndjson, csv 중 하나여야 합니다.");
+            }
+        }
+    }
+
+    private static final int WRITE_BUFFER = 64 * 1024;
+
+    private final EntityManager em;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectMapper mapper;
+    private final PostBodyStore bodies;
+    private final DataSource dataSource;
+    /** 영속성 컨텍스트 clear 주기(행) */
+    private final int clearEvery;
+    /** 드라이버에 넘길 fetch-size — MySQL 커서 fetch 가 꺼져 있으면 Integer.MIN_VALUE */
+    private int fetchSize;
+
+    public AdminExportService(
+            EntityManager em,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper mapper,
+            PostBodyStore bodies,
+            DataSource dataSource,
+            @Value("${admin.export.fetch-size:500}") int fetchSize
+    ) {
+        this.em = em;
+        this.readOnlyTx = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTx.setReadOnly(true);
+        this.mapper = mapper;
+        this.bodies = bodies;
+        this.dataSource = dataSource;
+        this.fetchSize = Math.max(fetchSize, 1);
+        this.clearEvery = this.fetchSize;
+    }
+
+    /** Connector/J 인데 useCursorFetch 가 없으면 행 단위 스트리밍으로 */
+    @PostConstruct
+    void resolveFetchSize() throws SQLException {
+        try (Connection c = dataSource.getConnection()) {
+            String url = c.getMetaData().getURL();
+            if (url != null && url.startsWith("jdbc:mysql:")
+                    && !url.toLowerCase(Locale.ROOT).contains("usecursorfetch=true")) {
+                fetchSize = Integer.MIN_VALUE;
+                log.info("export: MySQL cursor fetch off (useCursorFetch), streaming row by row");
+            }
+        }
+    }
+
+    /** 게시글(삭제 제외) — 작성자 함께 fetch, 본문은 post_bodies 를 같은 커서로 조인 */
+    public StreamingResponseBody posts(Format format) {
+        if (fetchSize == Integer.MIN_VALUE && bodies.isLegacyPending()) {
+            throw new RejectedExecutionException("게시글 본문 이전 중입니다. 잠시 후 다시 시도하세요.");
+        }
+        return stream(format, PostAdminRes.class,
+                "SELECT p, b FROM Post p LEFT JOIN FETCH p.author LEFT JOIN PostBody b ON b.postId = p.id ORDER BY p.id",
+                Object[].class,
+                row -> {
+                    Post p = (Post) row[0];
+                    PostBodyStore.Body body = row[1] != null ? PostBodyStore.decode((PostBody) row[1]) : bodies.load(p.getId());
+                    return new PostAdminRes(
+                            p.getId(),
+                            p.getTitle(),
+                            body.content(),
+                            p.getAuthor() != null ? p.getAuthor().getActivityId() : null,
+                            p.isNotice(),
+                            p.getCreatedAt(),
+                            p.getUpdatedAt(),
+                            p.getDeletedAt());
+                });
+    }
+
+    /** 댓글(소프트 삭제 포함, deleted 로 구분) — post/parent 는 FK 값만 */
+    public StreamingResponseBody comments(Format format) {
+        return stream(format, CommentRow.class,
+                "SELECT c FROM Comment c LEFT JOIN FETCH c.author ORDER BY c.id", Comment.class,
+                c -> new CommentRow(
+                        c.getId(),
+                        c.getPost().getId(),
+                        c.getParent() != null ? c.getParent().getId() : null,
+                        c.getAuthor() != null ? c.getAuthor().getActivityId() : null,
+                        c.getContentRaw(),
+                        c.getContent(),
+                        c.getCreatedAt(),
+                        c.getDepth(),
+                        c.getDeletedAt() != null));
+    }
+
+    /** 사용자(비밀번호 해시 등 민감 정보 제외) */
+    public StreamingResponseBody users(Format format) {
+        return stream(format, UserAdminRes.class,
+                "SELECT u FROM User u ORDER BY u.id", User.class,
+                u -> new UserAdminRes(
+                        u.getId(),
+                        u.getEmail(),
+                        u.getActivityId(),
+                        u.getStatus(),
+                        u.getRole(),
+                        u.getSuspendedUntil()));
+    }
+
+    /* ===== streaming ===== */
+
+    private <E, R extends Record> StreamingResponseBody stream(
+            Format format, Class<R> rowType, String hql, Class<E> entityType, Function<E, R> toRow
+    ) {
+        return out -> {
+            long[] rows = {0};
+            try {
+                readOnlyTx.executeWithoutResult(status -> {
+                    Session session = em.unwrap(Session.class);
+                    try (RowSink<R> sink = sink(format, rowType, out);
+                         ScrollableResults<E> scroll = session.createSelectionQuery(hql, entityType)
+                                 .setReadOnly(true)
+                                 .setCacheMode(CacheMode.IGNORE)
+                                 .setFetchSize(fetchSize)
+                                 .scroll(ScrollMode.FORWARD_ONLY)) {
+                        while (scroll.next()) {
+                            sink.write(toRow.apply(scroll.get()));
+                            if (++rows[0] % clearEvery == 0) {
+                                session.clear(); // 이미 쓴 엔티티(+fetch 된 작성자) 분리
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // 대부분 클라이언트가 다운로드를 중단한 경우
+                log.info("export {} aborted after {} rows: {}", rowType.getSimpleName(), rows[0], e.getCause().toString());
+                throw e.getCause();
+            }
+            log.info("export {} ({}): {} rows", rowType.getSimpleName(), format, rows[0]);
+        };
+    }
+
+    private <R extends Record> RowSink<R> sink(Format format, Class<R> rowType, OutputStream out) throws IOException {
+        return format == Format.CSV ? new CsvSink<>(rowType, out) : new NdjsonSink<>(mapper, rowType, out);
+    }
+
+    /** 행 단위 기록기 — close 는 버퍼 flush 만(응답 스트림은 컨테이너가 닫음) */
+    private interface RowSink<R> extends AutoCloseable {
+        void write(R row) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /** 한 줄에 JSON 객체 하나 */
+    private static final class NdjsonSink<R> implements RowSink<R> {
+        private final JsonGenerator gen;
+        private final ObjectWriter writer;
+
+        NdjsonSink(ObjectMapper mapper, Class<R> rowType, OutputStream out) throws IOException {
+            this.gen = mapper.getFactory()
+                    .createGenerator(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER))
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.gen.setRootValueSeparator(new SerializedString("\n"));
+            this.writer = mapper.writerFor(rowType).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(R row) throws IOException {
+            writer.writeValue(gen, row);
+        }
+
+        @Override
+        public void close() throws IOException {
+            gen.writeRaw('\n');
+            gen.flush();
+        }
+    }
+
+    /** RFC 4180 CSV — 헤더는 레코드 컴포넌트 이름, 엑셀 한글 표시를 위해 UTF-8 BOM */
+    private static final class CsvSink<R extends Record> implements RowSink<R> {
+        private final Writer w;
+        private final RecordComponent[] columns;
+
+        CsvSink(Class<R> rowType, OutputStream out) throws IOException {
+            this.w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER);
+            this.columns = rowType.getRecordComponents();
+            w.write('﻿');
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) w.write(',');
+                w.write(columns[i].getName());
+            }
+            w.write("\r\n");
+        }
+
+        @Override
+        public void write(R row) throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) w.write(',');
+                Object v;
+                try {
+                    v = columns[i].getAccessor().invoke(row);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+                if (v != null) writeCell(v instanceof String s ? s : v.toString(), v instanceof String);
+            }
+            w.write("\r\n");
+        }
+
+        private void writeCell(String s, boolean text) throws IOException {
+            // 스프레드시트 수식 주입 방지(=,+,-,@ 로 시작하는 문자열은 ' 접두)
+            if (text && !s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0) s = "'" + s;
+            boolean quote = s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0;
+            if (!quote) {
+                w.write(s);
+                return;
+            }
+            w.write('"');
+            w.write(s.replace("\"", "\"\""));
+            w.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            w.flush();
+        }
+    }
+}
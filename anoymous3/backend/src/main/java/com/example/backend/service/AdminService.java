@@ -1,23 +1,23 @@
 package com.example.backend.service;
 
-import com.example.backend.domain.Post;
 import com.example.backend.domain.Role;
 import com.example.backend.domain.User;
 import com.example.backend.domain.UserStatus;
 import com.example.backend.dto.AdminDtos.SetUserRoleReq;
 import com.example.backend.dto.AdminDtos.SetUserStatusReq;
 import com.example.backend.dto.AdminDtos.UserAdminRes;
-import com.example.backend.repo.CommentRepository;
-import com.example.backend.repo.PostRepository;
+import com.example.backend.dto.AdminDtos.UserPurgeJobRes;
 import com.example.backend.repo.UserRepository;
+import com.example.backend.util.TotalMode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +25,8 @@ import java.util.List;
 public class AdminService {
 
     private final UserRepository userRepo;
-    private final PostRepository postRepo;
-    private final CommentRepository commentRepo;
+    private final UserPurgeJobs purgeJobs;
+    private final CountCache counts;
 
     /* ================= 유저 목록/검색 ================= */
 
@@ -40,6 +40,21 @@ public class AdminService {
         return userRepo.findAll(pageable).map(this::toUserAdminRes);
     }
 
+    /**
+     * 관리자: 사용자 목록 — 전체 개수 방식 선택(?total=).
+     * 검색(q)은 개수 캐시가 없으므로 approx 여도 정확한 개수.
+     */
+    @Transactional(readOnly = true)
+    public Slice<UserAdminRes> listUsers(String q, TotalMode total, Pageable pageable) {
+        boolean search = q != null && !q.isBlank();
+        if (total == TotalMode.EXACT || (total == TotalMode.APPROX && search)) return listUsers(q, pageable);
+        Slice<UserAdminRes> slice = (search
+                ? userRepo.findSliceByActivityIdContainingIgnoreCaseOrEmailContainingIgnoreCase(q.trim(), q.trim(), pageable)
+                : userRepo.findSliceBy(pageable))
+                .map(this::toUserAdminRes);
+        return total == TotalMode.NONE ? slice : counts.page(slice, CountCache.Key.USERS);
+    }
+
     private UserAdminRes toUserAdminRes(User u) {
         return new UserAdminRes(
                 u.getId(),
@@ -93,31 +108,30 @@ public class AdminService {
     /* ================= 안전 삭제(소프트 삭제) =================
        실제 하드 딜리트는 FK 제약(게시글/댓글) 때문에 실패합니다.
        여기서는
-        1) 유저 상태를 DELETED로 바꾸고 삭제 시각을 기록
+        1) 유저 상태를 DELETED로 바꾸고 삭제 시각을 기록(이 요청 안에서 즉시)
         2) 해당 유저의 모든 게시글을 소프트 삭제(삭제 시각 설정)
         3) 해당 게시글의 댓글도 소프트 삭제
-       로 처리해 1451 제약 오류를 방지합니다.
+       2)·3)은 UserPurgeJobs 가 커밋 후 백그라운드에서 청크 단위 일괄 UPDATE 로 처리하고,
+       진행 상황은 반환된 작업 id 로 조회합니다.
     */
-    public void hardDeleteUser(Long userId) {
+    public UserPurgeJobRes hardDeleteUser(Long userId) {
         User u = userRepo.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Instant now = Instant.now();
-
         // 1) 유저 소프트 삭제 표시
         u.setStatus(UserStatus.DELETED);
         u.setSuspendedUntil(null);
-        if (u.getDeletedAt() == null) u.setDeletedAt(now);
+        if (u.getDeletedAt() == null) u.setDeletedAt(Instant.now());
         userRepo.save(u);
 
-        // 2) 해당 유저의 게시글 소프트 삭제 + 3) 댓글 소프트 삭제
-        List<Post> posts = postRepo.findByAuthor_Id(userId);
-        for (Post p : posts) {
-            if (p.getDeletedAt() == null) {
-                p.setDeletedAt(now);
-            }
-            commentRepo.softDeleteAllByPostId(p.getId(), now);
-        }
-        // flush는 트랜잭션 끝에서 자동
+        // 2) + 3) 백그라운드 작업
+        return purgeJobs.submit(userId);
+    }
+
+    /** 메모리 조회만 — DB 트랜잭션 불필요 */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserPurgeJobRes userPurgeJob(Long jobId) {
+        return purgeJobs.find(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("작업을 찾을 수 없습니다."));
     }
 }
@@ -1,23 +1,22 @@
 // backend/src/main/java/com/example/backend/service/AuthService.java
 package com.example.backend.service;
 
-import com.example.backend.domain.EmailVerification;
 import com.example.backend.domain.User;
 import com.example.backend.domain.Role;
 import com.example.backend.domain.UserStatus;
 import com.example.backend.dto.AuthDtos.*;
-import com.example.backend.repo.EmailVerificationRepository;
 import com.example.backend.repo.UserRepository;
 import com.example.backend.security.JwtUtil;
+import com.example.backend.security.PasswordHasher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 
@@ -25,18 +24,22 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final JavaMailSender mailSender;
-    private final EmailVerificationRepository evRepo;
+    private final MailOutboxService mailOutbox;
+    private final VerificationCodeStore codes;
     private final UserRepository userRepo;
     private final JwtUtil jwt;
+    private final ActivityIdRegistry activityIds;
+    private final PasswordHasher hasher;
+    private final CountCache counts;
+    private final TransactionTemplate tx;
 
     /** 이메일 인증 사용 여부 (개발 중 꺼두기 가능) */
     @Value("${feature.email-verification.enabled:true}")
     private boolean emailVerificationEnabled;
 
-    /** 메일 발신자 주소(선택) */
-    @Value("${spring.mail.from:}")
-    private String mailFrom;
+    /** 인증 코드 유효기간(코드 저장소와 같은 설정) — 안내 메일 문구용 */
+    @Value("${auth.verification.code-ttl:PT1H}")
+    private Duration codeTtl;
 
     private String gen6() {
         SecureRandom r = new SecureRandom();
@@ -50,44 +53,24 @@ public class AuthService {
         if (!emailVerificationEnabled) return;
 
         final String email = normalizeEmail(req.email());
+        if (email == null) throw new IllegalArgumentException("이메일을 입력하세요.");
         String code = gen6();
-        Instant expires = Instant.now().plusSeconds(3600);
-
-        EmailVerification ev = evRepo.findByEmail(email)
-                .orElse(EmailVerification.builder().email(email).build());
-        ev.setCode(code);
-        ev.setExpiresAt(expires);
-        ev.setVerifiedAt(null);
-        evRepo.save(ev);
-
-        SimpleMailMessage msg = new SimpleMailMessage();
-        if (mailFrom != null && !mailFrom.isBlank()) {
-            msg.setFrom(mailFrom);
-        }
-        msg.setTo(email);
-        msg.setSubject("[어노이] 이메일 인증 코드");
-        msg.setText("인증 코드: " + code + "\n유효기간: 1시간");
-        mailSender.send(msg);
+        codes.issue(email, code);
+
+        // 같은 트랜잭션으로 아웃박스에 적재 — SMTP 발송은 커밋 후 디스패처가 비동기로
+        mailOutbox.enqueue(email, "[어노이] 이메일 인증 코드", "인증 코드: " + code + "\n유효기간: " + describe(codeTtl));
     }
 
-    @Transactional
     public boolean verifyCode(VerifyCodeReq req) {
         final String email = normalizeEmail(req.email());
         final String code = safeTrim(req.code());
-
-        return evRepo.findByEmail(email).map(ev -> {
-            boolean ok = code != null
-                    && code.equals(ev.getCode())
-                    && ev.getExpiresAt().isAfter(Instant.now());
-            if (ok) {
-                ev.setVerifiedAt(Instant.now()); // 성공 시각 기록
-                evRepo.save(ev);
-            }
-            return ok;
-        }).orElse(false);
+        return email != null && codes.verify(email, code);
     }
 
-    @Transactional
+    /**
+     * 회원가입 — 해시는 트랜잭션 밖에서 먼저(최대 auth.hash.timeout 동안 DB 커넥션을 잡고 있지 않도록),
+     * 인증 소모 + 저장만 한 트랜잭션으로
+     */
     public void signup(SignupReq req) {
         final String email = normalizeEmail(req.email());
         final String rawActivityId = safeTrim(req.activityId());
@@ -102,41 +85,59 @@ public class AuthService {
         if (activityIdExistsNormalized(normActivityId))
             throw new IllegalArgumentException("이미 사용 중인 활동아이디");
 
-        if (emailVerificationEnabled) {
-            EmailVerification ev = evRepo.findByEmail(email)
-                    .orElseThrow(() -> new IllegalStateException("이메일 인증 필요"));
-            if (ev.getVerifiedAt() == null || ev.getVerifiedAt().isBefore(Instant.now().minusSeconds(3600))) {
-                throw new IllegalStateException("이메일 인증 만료");
+        // 해시는 전용 풀에서(요청 스레드 CPU 점유 없음, 바쁘면 503)
+        String hash = hasher.hash(req.password());
+
+        tx.executeWithoutResult(status -> {
+            if (emailVerificationEnabled) {
+                // 검증 완료 확인 + 인증 레코드 소모
+                switch (codes.consumeVerified(email)) {
+                    case NOT_FOUND -> throw new IllegalStateException("이메일 인증 필요");
+                    case EXPIRED -> throw new IllegalStateException("이메일 인증 만료");
+                    case OK -> { }
+                }
             }
-            // 인증 레코드 소모(선택)
-            evRepo.delete(ev);
-        }
-
-        String hash = BCrypt.hashpw(req.password(), BCrypt.gensalt());
-
-        // ✅ 신규 가입 시 기본 ROLE/STATUS 지정 (USER / ACTIVE)
-        User u = User.builder()
-                .email(email)
-                .passwordHash(hash)
-                .activityId(normActivityId) // 저장 시에도 정규화 적용
-                .role(Role.USER)
-                .status(UserStatus.ACTIVE)
-                .build();
 
-        userRepo.save(u);
+            // ✅ 신규 가입 시 기본 ROLE/STATUS 지정 (USER / ACTIVE)
+            User u = User.builder()
+                    .email(email)
+                    .passwordHash(hash)
+                    .activityId(normActivityId) // 저장 시에도 정규화 적용
+                    .role(Role.USER)
+                    .status(UserStatus.ACTIVE)
+                    .build();
+
+            try {
+                userRepo.saveAndFlush(u);
+            } catch (DataIntegrityViolationException e) {
+                // 동시 가입으로 유니크 제약(이메일/정규화 아이디)에 걸린 경우
+                throw new IllegalArgumentException("이미 사용 중인 이메일 또는 활동아이디");
+            }
+            activityIds.register(normActivityId);
+            counts.adjustAfterCommit(CountCache.Key.USERS, 1);
+        });
     }
 
-    /** ✅ 로그인: ROLE을 JWT/응답에 포함 + 상태 체크(정지/삭제) */
-    @Transactional
+    /**
+     * ✅ 로그인: ROLE을 JWT/응답에 포함 + 상태 체크(정지/삭제)
+     * 트랜잭션으로 묶지 않음 — 해시 검증을 기다리는 동안 DB 커넥션을 잡고 있지 않도록(쓰기는 save 단위)
+     */
     public LoginRes login(LoginReq req) {
         final String email = normalizeEmail(req.email());
         User u = userRepo.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("계정 없음"));
 
-        if (!BCrypt.checkpw(req.password(), u.getPasswordHash())) {
+        if (!hasher.matches(req.password(), u.getPasswordHash())) {
             throw new IllegalArgumentException("비밀번호 불일치");
         }
 
+        // cost 가 바뀌었으면 백그라운드로 재해시(그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음)
+        if (hasher.needsRehash(u.getPasswordHash())) {
+            Long userId = u.getId();
+            String oldHash = u.getPasswordHash();
+            hasher.rehashAsync(req.password(), newHash -> userRepo.updatePasswordHash(userId, oldHash, newHash));
+        }
+
         // ✅ 상태 체크
         if (u.getStatus() == UserStatus.DELETED) {
             throw new IllegalStateException("삭제된 계정입니다.");
@@ -156,11 +157,11 @@ public class AuthService {
             userRepo.save(u);
         }
 
-        // ✅ JWT에 role/activityId 클레임 포함
+        // ✅ JWT에 role/activityId/uid 클레임 포함(uid 로 요청마다 users 조회 생략)
         String roleClaim = (u.getRole() != null) ? u.getRole().name() : "USER";
         String token = jwt.createToken(
                 u.getEmail(),
-                Map.of("activityId", u.getActivityId(), "role", roleClaim)
+                Map.of("activityId", u.getActivityId(), "role", roleClaim, JwtUtil.CLAIM_USER_ID, u.getId())
         );
 
         // ✅ 프론트에서 바로 사용할 수 있게 role 응답에 포함
@@ -182,24 +183,26 @@ public class AuthService {
         return t.isEmpty() ? null : t;
     }
 
+    /** 메일 안내용 기간 표기 — "1시간", "1시간 30분", "10분", "45초" */
+    static String describe(Duration d) {
+        long h = d.toHours();
+        int m = d.toMinutesPart();
+        if (h == 0 && m == 0) return Math.max(d.toSecondsPart(), 1) + "초";
+        if (h == 0) return m + "분";
+        return m == 0 ? h + "시간" : h + "시간 " + m + "분";
+    }
+
     private static String normalizeEmail(String email) {
         String t = safeTrim(email);
         return t == null ? null : t.toLowerCase();
     }
 
     private static String normalizeActivityId(String s) {
-        String t = safeTrim(s);
-        return t == null ? null : t.toLowerCase();
+        return User.normalizeActivityId(s);
     }
 
-    /**
-     * Repository를 바꾸지 않고 서비스 단에서 정규화 비교.
-     * (개발 단계용 간단 구현 — 운영에선 정규화 인덱스/쿼리로 대체 권장)
-     */
+    /** 정규화 컬럼 + Bloom filter 로 판별(대부분 DB 조회 없이 O(1)) */
     private boolean activityIdExistsNormalized(String normActivityId) {
-        return userRepo.findAll().stream()
-                .map(User::getActivityId)
-                .map(AuthService::normalizeActivityId)
-                .anyMatch(normActivityId::equals);
+        return activityIds.isTaken(normActivityId);
     }
 }
@@ -3,23 +3,27 @@ package com.example.backend.service;
 import com.example.backend.domain.Comment;
 import com.example.backend.domain.Post;
 import com.example.backend.domain.User;
+import com.example.backend.dto.CommentDtos.CommentContent;
 import com.example.backend.dto.CommentDtos.CommentRes;
+import com.example.backend.dto.CommentDtos.CommentRow;
+import com.example.backend.dto.CommentDtos.CommentTreeRes;
 import com.example.backend.dto.CommentDtos.CreateReq;
 import com.example.backend.dto.CommentDtos.UpdateReq;
 import com.example.backend.repo.CommentRepository;
 import com.example.backend.repo.PostRepository;
 import com.example.backend.repo.UserRepository;
-import com.example.backend.util.HtmlSanitizer;
+import com.example.backend.security.AuthUser;
+import com.example.backend.util.FeedCursor;
 import com.example.backend.util.MarkdownRenderer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -27,26 +31,50 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    /** 댓글 작성(커밋 후 인기 글 랭킹이 소비) */
+    public record Created(Long postId) {}
+
+    /** 트리 한 페이지 최대 스레드 수 / 노드당 최대 답글 수 / 최대 펼침 깊이 */
+    private static final int MAX_THREADS = 100;
+    private static final int MAX_REPLIES = 50;
+    private static final int MAX_DEPTH = 5;
+    /** 본문 IN 조회 한 번에 넣는 id 수 */
+    private static final int CONTENT_CHUNK = 500;
+
     private final CommentRepository commentRepo;
     private final PostRepository postRepo;
     private final UserRepository userRepo;
+    private final ApplicationEventPublisher events;
 
     /** 게시글 댓글 목록(삭제되지 않은 것만) */
     public List<CommentRes> list(Long postId) {
-        return commentRepo.findByPost_IdAndDeletedAtIsNullOrderByCreatedAtAsc(postId)
+        return commentRepo.findLiveRowsByPostId(postId)
                 .stream().map(this::toRes).toList();
     }
 
+    /**
+     * 댓글 트리 — 최상위 스레드 단위 커서 페이지.
+     * 연결 정보(id/부모)만 한 번에 읽어 O(n) 으로 조립하고, 본문은 응답에 실린 댓글만 IN 조회.
+     */
+    public CommentTreeRes tree(Long postId, String cursor, int size, int replies, int depth) {
+        return treeOf(postId).roots(FeedCursor.decode(cursor), clampSize(size), clampReplies(replies), clampDepth(depth));
+    }
+
+    /** 접힌 답글 이어보기(해당 댓글의 직계 답글 페이지) */
+    public CommentTreeRes replies(Long commentId, String cursor, int size, int replies, int depth) {
+        Long postId = commentRepo.findPostIdById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글이 없습니다."));
+        return treeOf(postId)
+                .replies(commentId, FeedCursor.decode(cursor), clampSize(size), clampReplies(replies), clampDepth(depth));
+    }
+
     /** 댓글 작성 */
     @Transactional
     public CommentRes create(Long postId, CreateReq req) {
-        String email = currentEmail();
-        if (email == null) throw new AccessDeniedException("로그인이 필요합니다.");
-
-        User author = userRepo.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("작성자 계정을 찾을 수 없습니다."));
-        Post post = postRepo.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
+        // 작성자/게시글은 참조(프록시)만 — FK 값만 필요하므로 users/posts 본문 SELECT 없음
+        User author = userRepo.getReferenceById(requireUserId());
+        if (!postRepo.existsById(postId)) throw new IllegalArgumentException("게시글이 없습니다.");
+        Post post = postRepo.getReferenceById(postId);
 
         Comment parent = null;
         if (req.parentId() != null) {
@@ -57,49 +85,48 @@ public class CommentService {
             }
         }
 
-        // 마크다운 -> HTML -> 화이트리스트 정화
-        String raw = req.content();
-        String html = HtmlSanitizer.safeHtml(MarkdownRenderer.render(raw));
+        // 마크다운 -> HTML -> 화이트리스트 정화(렌더러 안에서 1회)
+        String html = MarkdownRenderer.render(req.content());
 
         Comment c = Comment.builder()
                 .post(post)
                 .author(author)
                 .parent(parent)
                 .content(html) // 정화된 HTML 저장
+                .contentRaw(req.content()) // 수정 화면용 원문
                 .depth(parent == null ? 0 : Math.min(parent.getDepth() + 1, 3))
                 .build();
         Comment saved = commentRepo.save(c);
+        events.publishEvent(new Created(postId));
         return toRes(saved);
     }
 
     /** 댓글 수정 (본인만) */
     @Transactional
     public CommentRes update(Long id, UpdateReq req) {
-        String email = currentEmail();
-        if (email == null) throw new AccessDeniedException("로그인이 필요합니다.");
+        Long uid = requireUserId();
 
         Comment c = commentRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("댓글이 없습니다."));
-        if (c.getAuthor() == null || !email.equalsIgnoreCase(c.getAuthor().getEmail())) {
+        if (!isAuthor(c.getAuthor(), uid)) {
             throw new AccessDeniedException("수정 권한이 없습니다.");
         }
 
-        String raw = req.content();
-        String html = HtmlSanitizer.safeHtml(MarkdownRenderer.render(raw));
+        String html = MarkdownRenderer.render(req.content());
 
         c.setContent(html);
+        c.setContentRaw(req.content());
         return toRes(c);
     }
 
     /** 댓글 삭제 (본인만) — 하드 삭제 */
     @Transactional
     public void delete(Long id) {
-        String email = currentEmail();
-        if (email == null) throw new AccessDeniedException("로그인이 필요합니다.");
+        Long uid = requireUserId();
 
         Comment c = commentRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("댓글이 없습니다."));
-        if (c.getAuthor() == null || !email.equalsIgnoreCase(c.getAuthor().getEmail())) {
+        if (!isAuthor(c.getAuthor(), uid)) {
             throw new AccessDeniedException("삭제 권한이 없습니다.");
         }
         commentRepo.delete(c);
@@ -114,6 +141,45 @@ public class CommentService {
 
     /* ===== helpers ===== */
 
+    private CommentTree treeOf(Long postId) {
+        return CommentTree.of(commentRepo.findLinksByPostId(postId), this::contents);
+    }
+
+    /** IN 목록이 너무 길어지지 않게 나눠 조회 */
+    private List<CommentContent> contents(Collection<Long> ids) {
+        List<Long> all = List.copyOf(ids);
+        if (all.size() <= CONTENT_CHUNK) return commentRepo.findContentByIdIn(all);
+        List<CommentContent> out = new ArrayList<>(all.size());
+        for (int i = 0; i < all.size(); i += CONTENT_CHUNK) {
+            out.addAll(commentRepo.findContentByIdIn(all.subList(i, Math.min(i + CONTENT_CHUNK, all.size()))));
+        }
+        return out;
+    }
+
+    private CommentRes toRes(CommentRow r) {
+        return new CommentRes(
+                r.id(),
+                r.postId(),
+                r.parentId(),
+                r.authorActivityId(),
+                r.contentRaw(),
+                r.contentHtml(),
+                r.createdAt()
+        );
+    }
+
+    private static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_THREADS);
+    }
+
+    private static int clampReplies(int replies) {
+        return Math.min(Math.max(replies, 0), MAX_REPLIES);
+    }
+
+    private static int clampDepth(int depth) {
+        return Math.min(Math.max(depth, 0), MAX_DEPTH);
+    }
+
     private CommentRes toRes(Comment c) {
         String html = c.getContent(); // 정화된 HTML
         return new CommentRes(
@@ -121,18 +187,21 @@ public class CommentService {
                 c.getPost() != null ? c.getPost().getId() : null,
                 c.getParent() != null ? c.getParent().getId() : null,
                 c.getAuthor() != null ? c.getAuthor().getActivityId() : null,
-                null,          // contentRaw: 원문을 별도로 저장하지 않음
+                c.getContentRaw(), // 도입 이전 댓글은 null
                 html,          // contentHtml
                 c.getCreatedAt()
         );
     }
 
-    private String currentEmail() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null) return null;
-        Object principal = auth.getPrincipal();
-        if (principal instanceof UserDetails ud) return ud.getUsername();
-        String name = auth.getName();
-        return (name != null && !name.isBlank()) ? name : null;
+    /** 토큰의 uid(users 조회 없음). 미인증이면 AccessDenied */
+    private Long requireUserId() {
+        Long uid = AuthUser.currentId();
+        if (uid == null) throw new AccessDeniedException("로그인이 필요합니다.");
+        return uid;
+    }
+
+    private static boolean isAuthor(User author, Long uid) {
+        // 지연 로딩 프록시여도 getId() 는 초기화하지 않음
+        return author != null && uid.equals(author.getId());
     }
 }
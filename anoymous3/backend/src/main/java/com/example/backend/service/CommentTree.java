@@ -0,0 +1,150 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.CommentDtos.CommentContent;
+import com.example.backend.dto.CommentDtos.CommentLink;
+import com.example.backend.dto.CommentDtos.CommentNode;
+import com.example.backend.dto.CommentDtos.CommentTreeRes;
+import com.example.backend.util.FeedCursor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 게시글 한 건의 댓글 연결 정보(id/부모) → 트리(O(n)).
+ * - 삭제된 댓글은 살아 있는 자손이 있을 때만 자리표시로 남기고 나머지는 제거
+ * - 부모가 목록에 없으면(정합성 깨진 행) 최상위로 취급
+ * - 형제 정렬은 입력 순서(createdAt, id 오름차순) 그대로
+ * - 본문/작성자는 페이지에 실린 노드만 contents 로 따로 읽음
+ */
+final class CommentTree {
+
+    private static final class Node {
+        final CommentLink row;
+        final List<Node> children = new ArrayList<>();
+        Node parent;
+        boolean live;
+
+        Node(CommentLink row) {
+            this.row = row;
+        }
+    }
+
+    private final Map<Long, Node> byId;
+    private final List<Node> roots = new ArrayList<>();
+    /** 살아 있는 댓글 id 묶음 → 본문/작성자 */
+    private final Function<Collection<Long>, List<CommentContent>> contents;
+    private int liveComments;
+
+    private CommentTree(List<CommentLink> rows, Function<Collection<Long>, List<CommentContent>> contents) {
+        this.contents = contents;
+        byId = new HashMap<>(rows.size() * 2);
+        for (CommentLink r : rows) byId.put(r.id(), new Node(r));
+
+        // 1) 부모 연결
+        for (CommentLink r : rows) {
+            Node n = byId.get(r.id());
+            n.parent = r.parentId() != null ? byId.get(r.parentId()) : null;
+        }
+        // 2) 살아 있는 댓글에서 위로 표시 — 이미 표시된 조상에서 멈추므로 노드당 1회
+        for (CommentLink r : rows) {
+            if (r.deleted()) continue;
+            liveComments++;
+            for (Node n = byId.get(r.id()); n != null && !n.live; n = n.parent) n.live = true;
+        }
+        // 3) 살아 있는 노드만 입력 순서대로 자식/루트 목록에 추가
+        for (CommentLink r : rows) {
+            Node n = byId.get(r.id());
+            if (!n.live) continue;
+            if (n.parent == null) roots.add(n);
+            else n.parent.children.add(n);
+        }
+    }
+
+    static CommentTree of(List<CommentLink> rows, Function<Collection<Long>, List<CommentContent>> contents) {
+        return new CommentTree(rows, contents);
+    }
+
+    /** 최상위 스레드 페이지 */
+    CommentTreeRes roots(FeedCursor after, int size, int replyLimit, int depthLimit) {
+        return page(roots, after, size, replyLimit, depthLimit);
+    }
+
+    /** 특정 댓글의 직계 답글 페이지(없거나 표시 대상이 아니면 IllegalArgumentException) */
+    CommentTreeRes replies(Long commentId, FeedCursor after, int size, int replyLimit, int depthLimit) {
+        Node n = byId.get(commentId);
+        if (n == null || !n.live) throw new IllegalArgumentException("댓글이 없습니다.");
+        return page(n.children, after, size, replyLimit, depthLimit);
+    }
+
+    /* ===== helpers ===== */
+
+    private CommentTreeRes page(List<Node> siblings, FeedCursor after, int size, int replyLimit, int depthLimit) {
+        int from = 0;
+        if (after != null) {
+            while (from < siblings.size() && !isAfter(siblings.get(from).row, after)) from++;
+        }
+        int to = Math.min(from + size, siblings.size());
+
+        // 응답에 실릴 살아 있는 노드만 모아 본문을 한 번에
+        List<Long> ids = new ArrayList<>();
+        for (int i = from; i < to; i++) collect(siblings.get(i), replyLimit, depthLimit, ids);
+        Map<Long, CommentContent> loaded = new HashMap<>(ids.size() * 2);
+        if (!ids.isEmpty()) {
+            for (CommentContent c : contents.apply(ids)) loaded.put(c.id(), c);
+        }
+
+        List<CommentNode> items = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) items.add(render(siblings.get(i), replyLimit, depthLimit, loaded));
+
+        boolean hasNext = to < siblings.size();
+        String next = null;
+        if (hasNext && to > from) {
+            CommentLink last = siblings.get(to - 1).row;
+            next = new FeedCursor(last.createdAt(), last.id()).encode();
+        }
+        return new CommentTreeRes(items, next, hasNext, siblings.size(), liveComments);
+    }
+
+    /** render 와 같은 범위에서 삭제되지 않은 노드 id 수집 */
+    private static void collect(Node n, int replyLimit, int depthLimit, List<Long> out) {
+        if (!n.row.deleted()) out.add(n.row.id());
+        if (depthLimit <= 0) return;
+        int shown = Math.min(replyLimit, n.children.size());
+        for (int i = 0; i < shown; i++) collect(n.children.get(i), replyLimit, depthLimit - 1, out);
+    }
+
+    /** depthLimit 단계까지 펼치고, 단계마다 직계 답글은 replyLimit 개까지만 */
+    private static CommentNode render(Node n, int replyLimit, int depthLimit, Map<Long, CommentContent> loaded) {
+        List<CommentNode> replies = List.of();
+        int shown = 0;
+        if (depthLimit > 0 && !n.children.isEmpty()) {
+            shown = Math.min(replyLimit, n.children.size());
+            replies = new ArrayList<>(shown);
+            for (int i = 0; i < shown; i++) replies.add(render(n.children.get(i), replyLimit, depthLimit - 1, loaded));
+        }
+        CommentLink r = n.row;
+        // 트리를 읽은 뒤 삭제된 댓글은 본문이 없어 null
+        CommentContent c = r.deleted() ? null : loaded.get(r.id());
+        return new CommentNode(
+                r.id(),
+                n.parent != null ? r.parentId() : null,
+                c != null ? c.authorActivityId() : null,
+                c != null ? c.contentRaw() : null,
+                c != null ? c.contentHtml() : null,
+                r.createdAt(),
+                r.depth(),
+                r.deleted(),
+                replies,
+                n.children.size() - shown
+        );
+    }
+
+    private static boolean isAfter(CommentLink r, FeedCursor c) {
+        int cmp = r.createdAt().compareTo(c.createdAt());
+        return cmp > 0 || (cmp == 0 && r.id() > c.id());
+    }
+}
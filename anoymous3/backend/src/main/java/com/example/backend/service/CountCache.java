@@ -0,0 +1,124 @@
+package com.example.backend.service;
+
+import com.example.backend.repo.PostRepository;
+import com.example.backend.repo.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수 캐시(?total=approx 용).
+ * - 게시글: 커밋 후 PostChangedEvent 로 증감(생성 +1, 삭제 -1, 공지 전환은 공지/일반 사이 이동)
+ * - 사용자: 가입 커밋 후 +1 (상태 변경/탈퇴는 행이 남으므로 개수 불변)
+ * - 주기적으로 count(*) 로 덮어써 보정 — 보정 쿼리와 동시에 들어온 증감 몇 건은 다음 보정까지 어긋날 수 있음
+ * - 첫 요청 전에는 값이 없으므로(-1) 그 키만 한 번 정확히 세어 채움
+ */
+@Slf4j
+@Component
+public class CountCache {
+
+    public enum Key { POSTS, NOTICE_POSTS, REGULAR_POSTS, USERS }
+
+    private static final long UNKNOWN = -1;
+
+    private final Map<Key, AtomicLong> values = new EnumMap<>(Key.class);
+    private final Map<Key, LongSupplier> exact = new EnumMap<>(Key.class);
+
+    public CountCache(PostRepository postRepo, UserRepository userRepo) {
+        exact.put(Key.POSTS, postRepo::count); // @Where 로 삭제 제외
+        exact.put(Key.NOTICE_POSTS, postRepo::countByNoticeTrue);
+        exact.put(Key.REGULAR_POSTS, postRepo::countByNoticeFalse);
+        exact.put(Key.USERS, userRepo::count);
+        for (Key k : Key.values()) values.put(k, new AtomicLong(UNKNOWN));
+    }
+
+    /** 게시글 필터(null=전체, true=공지, false=일반)에 해당하는 키 */
+    public static Key posts(Boolean notice) {
+        if (notice == null) return Key.POSTS;
+        return notice ? Key.NOTICE_POSTS : Key.REGULAR_POSTS;
+    }
+
+    /** 근사 전체 개수 */
+    public long get(Key key) {
+        AtomicLong v = values.get(key);
+        long n = v.get();
+        if (n == UNKNOWN) {
+            n = exact.get(key).getAsLong();
+            v.compareAndSet(UNKNOWN, n);
+        }
+        return Math.max(n, 0);
+    }
+
+    /**
+     * Slice(count 쿼리 없이 조회한 내용) + 근사 전체 개수 → Page.
+     * 캐시 값이 실제보다 작아도 현재 페이지/다음 페이지 존재 여부와 모순되지 않게 하한을 맞춤.
+     */
+    public <T> Page<T> page(Slice<T> slice, Key key) {
+        long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        long total = Math.max(get(key), seen + (slice.hasNext() ? 1 : 0));
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /** 현재 트랜잭션이 커밋되면 증감(트랜잭션 밖이면 바로) */
+    public void adjustAfterCommit(Key key, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjust(key, delta);
+                }
+            });
+        } else {
+            adjust(key, delta);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent e) {
+        Key own = e.notice() ? Key.NOTICE_POSTS : Key.REGULAR_POSTS;
+        switch (e.type()) {
+            case CREATED -> {
+                adjust(Key.POSTS, 1);
+                adjust(own, 1);
+            }
+            case DELETED -> {
+                adjust(Key.POSTS, -1);
+                adjust(own, -1);
+            }
+            case NOTICE_CHANGED -> {
+                // 이벤트의 notice 는 전환 후 값
+                adjust(own, 1);
+                adjust(e.notice() ? Key.REGULAR_POSTS : Key.NOTICE_POSTS, -1);
+            }
+            default -> { }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${counts.reconcile-interval:PT10M}")
+    public void reconcile() {
+        for (Key k : Key.values()) {
+            AtomicLong v = values.get(k);
+            if (v.get() == UNKNOWN) continue; // 아직 아무도 안 쓴 키는 건너뜀
+            long n = exact.get(k).getAsLong();
+            long prev = v.getAndSet(n);
+            if (prev != n) log.debug("count cache {} reconciled: {} -> {}", k, prev, n);
+        }
+    }
+
+    private void adjust(Key key, long delta) {
+        values.get(key).updateAndGet(v -> v == UNKNOWN ? v : v + delta);
+    }
+}
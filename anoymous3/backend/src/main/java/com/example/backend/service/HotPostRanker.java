@@ -0,0 +1,217 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.PostHotScore;
+import com.example.backend.domain.PostReaction;
+import com.example.backend.dto.PostDtos.HotRes;
+import com.example.backend.dto.PostDtos.PostCount;
+import com.example.backend.dto.PostDtos.PostSummaryRes;
+import com.example.backend.repo.CommentRepository;
+import com.example.backend.repo.PostHotScoreRepository;
+import com.example.backend.repo.PostReactionRepository;
+import com.example.backend.repo.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 글 랭킹 — 주기 집계 + 메모리 스냅샷.
+ * - 점수 = 이전 점수 × 2^(-경과/반감기) + 좋아요 증감 × like 가중치 + 새 댓글 수 × comment 가중치
+ * - 증분은 커밋 후 이벤트(ReactionService.Changed / CommentService.Created)로 받아 pending 에 합산 → 주기마다 반영.
+ *   created_at 구간 조회와 달리 늦게 커밋된 트랜잭션도 빠지지 않고, 좋아요 취소/재클릭은 상쇄, 싫어요→좋아요 전환도 +1
+ * - 기동 직후 한 번만 DB 에서 created_at 으로 보충(저장 시각 이후 댓글, 저장분이 없으면 seed-window 의 좋아요/댓글) — 이 구간만 근사
+ * - 상위 keep 개만 후보로 유지, 그중 상위 size 개를 요약 DTO 스냅샷으로 교체(volatile 참조 한 번)
+ * - 후보 점수는 매 주기 post_hot_scores 에 덮어써 재기동 시 이어서 집계(단일 인스턴스 전제 — 이벤트는 인스턴스 로컬)
+ * - 삭제된 글은 커밋 후 이벤트로 즉시 스냅샷에서 제외
+ */
+@Slf4j
+@Component
+public class HotPostRanker {
+
+    /** 이 값 미만으로 식은 후보는 버림 */
+    private static final double MIN_SCORE = 0.01;
+
+    private final PostRepository postRepo;
+    private final CommentRepository commentRepo;
+    private final PostReactionRepository reactionRepo;
+    private final PostHotScoreRepository hotRepo;
+    private final TransactionTemplate tx;
+
+    private final Duration halfLife;
+    private final Duration seedWindow;
+    private final int size;
+    private final int keep;
+    private final double likeWeight;
+    private final double commentWeight;
+
+    // 아래 둘은 score()/onPostChanged() 에서만(synchronized) 변경
+    private final Map<Long, Double> scores = new HashMap<>();
+    private Instant scoredAt;
+    /** 다음 주기에 더할 가중 증분 — 이벤트 리스너(요청 스레드)는 락 없이 합산만 */
+    private final ConcurrentHashMap<Long, Double> pending = new ConcurrentHashMap<>();
+
+    private volatile HotRes snapshot = new HotRes(List.of(), null);
+
+    public HotPostRanker(
+            PostRepository postRepo,
+            CommentRepository commentRepo,
+            PostReactionRepository reactionRepo,
+            PostHotScoreRepository hotRepo,
+            TransactionTemplate transactionTemplate,
+            @Value("${posts.hot.half-life:PT6H}") Duration halfLife,
+            @Value("${posts.hot.seed-window:PT24H}") Duration seedWindow,
+            @Value("${posts.hot.size:20}") int size,
+            @Value("${posts.hot.keep:100}") int keep,
+            @Value("${posts.hot.weight.like:1.0}") double likeWeight,
+            @Value("${posts.hot.weight.comment:2.0}") double commentWeight
+    ) {
+        this.postRepo = postRepo;
+        this.commentRepo = commentRepo;
+        this.reactionRepo = reactionRepo;
+        this.hotRepo = hotRepo;
+        this.tx = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.halfLife = halfLife;
+        this.seedWindow = seedWindow;
+        this.size = Math.max(size, 1);
+        this.keep = Math.max(keep, this.size);
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    /** 현재 스냅샷 앞 limit 개 */
+    public HotRes hot(int limit) {
+        HotRes s = snapshot;
+        if (limit >= s.items().size()) return s;
+        return new HotRes(s.items().subList(0, Math.max(limit, 0)), s.computedAt());
+    }
+
+    @Scheduled(fixedDelayString = "${posts.hot.interval:PT1M}")
+    public synchronized void score() {
+        if (scoredAt == null) restore();
+        Instant now = Instant.now();
+
+        // 1) 기존 점수 감쇠
+        double decay = Math.pow(0.5, (double) Duration.between(scoredAt, now).toMillis() / halfLife.toMillis());
+        scores.replaceAll((id, s) -> s * decay);
+
+        // 2) 이벤트로 쌓인 증분 반영(키마다 원자적으로 꺼냄 — 그 사이 들어온 증분은 다음 주기로)
+        for (Long id : pending.keySet()) {
+            Double delta = pending.remove(id);
+            if (delta != null) scores.merge(id, delta, Double::sum);
+        }
+        scoredAt = now;
+
+        // 3) 식은 후보 정리 + 상위 keep 개만 유지
+        scores.values().removeIf(s -> s < MIN_SCORE);
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+        if (ranked.size() > keep) {
+            ranked.subList(keep, ranked.size()).forEach(scores::remove);
+            ranked = ranked.subList(0, keep);
+        }
+
+        // 4) 상위 글 요약 — 삭제돼 빠진 글은 후보에서도 제거하고 다음 순위로 채움
+        List<Long> head = ranked.subList(0, Math.min(ranked.size(), size * 2));
+        Map<Long, PostSummaryRes> byId = head.isEmpty() ? Map.of()
+                : postRepo.findSummariesByIdIn(head).stream()
+                        .collect(Collectors.toMap(PostSummaryRes::id, Function.identity()));
+        head.stream().filter(id -> !byId.containsKey(id)).forEach(scores::remove);
+        List<PostSummaryRes> items = head.stream()
+                .map(byId::get)
+                .filter(r -> r != null)
+                .limit(size)
+                .toList();
+        snapshot = new HotRes(items, now);
+
+        persist(now);
+    }
+
+    @TransactionalEventListener
+    public void onReactionChanged(ReactionService.Changed e) {
+        if (e.likes() != 0) pending.merge(e.postId(), e.likes() * likeWeight, Double::sum);
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentService.Created e) {
+        pending.merge(e.postId(), commentWeight, Double::sum);
+    }
+
+    /** 삭제된 글은 다음 주기를 기다리지 않고 스냅샷에서 제외 */
+    @TransactionalEventListener
+    public synchronized void onPostChanged(PostChangedEvent e) {
+        if (e.type() != PostChangedEvent.Type.DELETED) return;
+        scores.remove(e.postId());
+        pending.remove(e.postId());
+        HotRes s = snapshot;
+        if (s.items().stream().anyMatch(r -> r.id().equals(e.postId()))) {
+            snapshot = new HotRes(
+                    s.items().stream().filter(r -> !r.id().equals(e.postId())).toList(),
+                    s.computedAt());
+        }
+    }
+
+    /* ===== helpers ===== */
+
+    private void addAll(List<PostCount> counts, double weight) {
+        for (PostCount c : counts) {
+            scores.merge(c.postId(), c.count() * weight, Double::sum);
+        }
+    }
+
+    /**
+     * 저장된 후보 점수 복원 + 그 이후(없으면 seed-window 만큼 과거부터) 반응/댓글을 DB 에서 한 번 보충.
+     * - 보충 구간 끝(now)을 먼저 고정하고, 조회가 끝난 뒤에 pending 을 비움
+     *   → 조회에 이미 잡힌 행의 이벤트가 다음 주기에 한 번 더 더해지지 않음(그 사이 커밋분은 근사로 버림)
+     * - 좋아요는 저장된 점수가 없을 때(첫 기동)만 보충: 지금 남아 있는 LIKE 행만 세므로
+     *   저장 시각 전에 누른 좋아요를 취소 후 다시 누르면 새 행으로 잡혀 부풀려짐 — 재기동 땐 댓글만 보충
+     * 이후로는 이벤트만 사용
+     */
+    private void restore() {
+        Instant now = Instant.now();
+        List<PostHotScore> saved = hotRepo.findAll();
+        scoredAt = saved.stream()
+                .map(PostHotScore::getScoredAt)
+                .max(Comparator.naturalOrder())
+                .orElse(now.minus(seedWindow));
+        saved.forEach(h -> scores.put(h.getPostId(), h.getScore()));
+        if (!saved.isEmpty()) log.info("hot post scores restored: {} candidates as of {}", saved.size(), scoredAt);
+
+        double decay = Math.pow(0.5, (double) Duration.between(scoredAt, now).toMillis() / halfLife.toMillis());
+        scores.replaceAll((id, s) -> s * decay);
+        if (saved.isEmpty()) {
+            addAll(reactionRepo.countCreatedByPost(PostReaction.Type.LIKE, scoredAt, now), likeWeight);
+        }
+        addAll(commentRepo.countCreatedByPost(scoredAt, now), commentWeight);
+        pending.clear();
+        scoredAt = now;
+    }
+
+    private void persist(Instant now) {
+        List<PostHotScore> rows = scores.entrySet().stream()
+                .map(e -> PostHotScore.builder().postId(e.getKey()).score(e.getValue()).scoredAt(now).build())
+                .toList();
+        try {
+            tx.executeWithoutResult(s -> {
+                hotRepo.deleteAllInBatch();
+                hotRepo.saveAll(rows);
+            });
+        } catch (RuntimeException ex) {
+            // 저장 실패는 재기동 복원에만 영향 — 메모리 랭킹은 그대로
+            log.warn("hot post scores persist failed: {}", ex.toString());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 인증 코드 저장소(기본).
+ * - 조회 시 만료를 직접 확인하므로 정확성은 스위퍼와 무관
+ * - 만료 정리는 해시드 타임 휠: 슬롯마다 키 집합, 틱마다 해당 슬롯만 훑음(전체 스캔 없음).
+ *   아직 만료 전인 키(재발급/검증으로 연장)는 새 마감 슬롯으로 다시 넣음
+ * - max-entries 초과 시 신규 발급 거절(메모리 상한)
+ * - 소모는 즉시 제거(동시 가입 중복 방지), 호출 트랜잭션이 롤백되면 되돌려 둠 — JPA 저장소의 삭제 롤백과 같은 동작
+ */
+@Component
+@ConditionalOnProperty(name = "auth.verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    /** 불변 — 상태 변경은 compute 로 교체 */
+    private record Entry(String code, long expiresAt, int attempts, long verifiedAt, long deadline) {}
+
+    private final long codeTtlMillis;
+    private final long verifiedTtlMillis;
+    private final int maxAttempts;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /* 타임 휠 */
+    private final long tickMillis;
+    private final Set<String>[] wheel;
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryVerificationCodeStore(
+            @Value("${auth.verification.code-ttl:PT1H}") Duration codeTtl,
+            @Value("${auth.verification.verified-ttl:PT1H}") Duration verifiedTtl,
+            @Value("${auth.verification.max-attempts:5}") int maxAttempts,
+            @Value("${auth.verification.max-entries:100000}") int maxEntries,
+            @Value("${auth.verification.wheel-tick:PT10S}") Duration tick,
+            @Value("${auth.verification.wheel-slots:512}") int slots
+    ) {
+        this.codeTtlMillis = codeTtl.toMillis();
+        this.verifiedTtlMillis = verifiedTtl.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.maxEntries = maxEntries;
+        this.tickMillis = Math.max(tick.toMillis(), 1);
+        this.wheel = new Set[Math.max(slots, 1)];
+        for (int i = 0; i < wheel.length; i++) wheel[i] = ConcurrentHashMap.newKeySet();
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    @Override
+    public void issue(String email, String code) {
+        if (entries.size() >= maxEntries && !entries.containsKey(email)) {
+            throw new IllegalStateException("인증 요청이 많습니다. 잠시 후 다시 시도하세요.");
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + codeTtlMillis;
+        entries.put(email, new Entry(code, expiresAt, 0, 0L, expiresAt));
+        schedule(email, expiresAt);
+    }
+
+    @Override
+    public boolean verify(String email, String code) {
+        long now = System.currentTimeMillis();
+        boolean[] ok = {false};
+        Entry e = entries.computeIfPresent(email, (k, cur) -> {
+            if (cur.expiresAt() <= now || cur.attempts() >= maxAttempts) return cur;
+            if (code != null && code.equals(cur.code())) {
+                ok[0] = true;
+                long deadline = Math.max(cur.deadline(), now + verifiedTtlMillis);
+                return new Entry(cur.code(), cur.expiresAt(), cur.attempts(), now, deadline);
+            }
+            return new Entry(cur.code(), cur.expiresAt(), cur.attempts() + 1, cur.verifiedAt(), cur.deadline());
+        });
+        if (ok[0]) schedule(email, e.deadline());
+        return ok[0];
+    }
+
+    @Override
+    public Consume consumeVerified(String email) {
+        long now = System.currentTimeMillis();
+        Entry e = entries.get(email);
+        if (e == null) return Consume.NOT_FOUND;
+        if (e.verifiedAt() == 0L || e.verifiedAt() + verifiedTtlMillis <= now) return Consume.EXPIRED;
+        // 동시에 두 번 소모되지 않도록 같은 엔트리일 때만 제거
+        if (!entries.remove(email, e)) return Consume.NOT_FOUND;
+        restoreOnRollback(email, e);
+        return Consume.OK;
+    }
+
+    /** 지난 틱의 슬롯들만 처리(스케줄이 밀렸으면 따라잡음, 최대 한 바퀴) */
+    @Scheduled(fixedDelayString = "${auth.verification.wheel-tick:PT10S}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        long current = now / tickMillis;
+        long from;
+        synchronized (this) {
+            from = Math.max(lastTick + 1, current - wheel.length + 1);
+            lastTick = current;
+        }
+        for (long t = from; t <= current; t++) {
+            Set<String> slot = wheel[(int) (t % wheel.length)];
+            // 스냅샷 후 처리 — 같은 슬롯으로 다시 들어가는 키를 이번 틱에 또 보지 않도록
+            List<String> keys = new ArrayList<>(slot);
+            keys.forEach(slot::remove);
+            for (String key : keys) {
+                Entry e = entries.get(key);
+                if (e == null) continue;
+                if (e.deadline() <= now) {
+                    entries.remove(key, e);
+                } else {
+                    schedule(key, e.deadline());
+                }
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** 가입 저장이 실패(유니크 충돌 등)해 롤백되면 인증 상태 복구 — 그 사이 재발급됐으면 새 코드 유지 */
+    private void restoreOnRollback(String email, Entry e) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK && entries.putIfAbsent(email, e) == null) {
+                    schedule(email, e.deadline());
+                }
+            }
+        });
+    }
+
+    private void schedule(String key, long deadline) {
+        wheel[(int) ((deadline / tickMillis + 1) % wheel.length)].add(key);
+    }
+}
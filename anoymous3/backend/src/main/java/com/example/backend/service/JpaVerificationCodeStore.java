@@ -0,0 +1,96 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.EmailVerification;
+import com.example.backend.repo.EmailVerificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * email_verifications 테이블 기반 저장소(auth.verification.store=jpa).
+ * 여러 인스턴스가 코드를 공유해야 할 때 사용. 만료 행은 purge-cron 마다 청크 단위로 삭제.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.verification.store", havingValue = "jpa")
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationRepository evRepo;
+    private final Duration codeTtl;
+    private final Duration verifiedTtl;
+    private final int maxAttempts;
+    private final int purgeChunk;
+
+    public JpaVerificationCodeStore(
+            EmailVerificationRepository evRepo,
+            @Value("${auth.verification.code-ttl:PT1H}") Duration codeTtl,
+            @Value("${auth.verification.verified-ttl:PT1H}") Duration verifiedTtl,
+            @Value("${auth.verification.max-attempts:5}") int maxAttempts,
+            @Value("${auth.verification.purge-chunk:1000}") int purgeChunk
+    ) {
+        this.evRepo = evRepo;
+        this.codeTtl = codeTtl;
+        this.verifiedTtl = verifiedTtl;
+        this.maxAttempts = maxAttempts;
+        this.purgeChunk = Math.max(purgeChunk, 1);
+    }
+
+    @Override
+    @Transactional
+    public void issue(String email, String code) {
+        EmailVerification ev = evRepo.findByEmail(email)
+                .orElse(EmailVerification.builder().email(email).build());
+        ev.setCode(code);
+        ev.setExpiresAt(Instant.now().plus(codeTtl));
+        ev.setVerifiedAt(null);
+        ev.setAttempts(0);
+        evRepo.save(ev);
+    }
+
+    @Override
+    @Transactional
+    public boolean verify(String email, String code) {
+        Instant now = Instant.now();
+        return evRepo.findByEmail(email).map(ev -> {
+            if (!ev.getExpiresAt().isAfter(now) || ev.getAttempts() >= maxAttempts) return false;
+            if (code != null && code.equals(ev.getCode())) {
+                ev.setVerifiedAt(now); // 성공 시각 기록
+                return true;
+            }
+            ev.setAttempts(ev.getAttempts() + 1);
+            return false;
+        }).orElse(false);
+    }
+
+    @Override
+    @Transactional
+    public Consume consumeVerified(String email) {
+        EmailVerification ev = evRepo.findByEmail(email).orElse(null);
+        if (ev == null) return Consume.NOT_FOUND;
+        if (ev.getVerifiedAt() == null || ev.getVerifiedAt().isBefore(Instant.now().minus(verifiedTtl))) {
+            return Consume.EXPIRED;
+        }
+        evRepo.delete(ev);
+        return Consume.OK;
+    }
+
+    /** 코드도 만료됐고 검증 유효기간도 지난 행 삭제 — LIMIT 청크마다 짧은 트랜잭션 */
+    @Scheduled(cron = "${auth.verification.purge-cron:0 */10 * * * *}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        Instant verifiedBefore = now.minus(verifiedTtl);
+        long total = 0;
+        int n;
+        do {
+            n = evRepo.purgeExpired(now, verifiedBefore, purgeChunk);
+            total += n;
+        } while (n == purgeChunk);
+        if (total > 0) log.info("email verifications purged: {}", total);
+    }
+}
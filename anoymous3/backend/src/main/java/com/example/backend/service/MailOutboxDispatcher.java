@@ -0,0 +1,217 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.MailOutbox;
+import com.example.backend.repo.MailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * mail_outbox 발송기.
+ * - 전용 단일 스레드에서 실행: 적재 커밋 직후(이벤트) + 주기 폴링(재시도/누락 대비)
+ * - 한 묶음(batch)을 조건부 UPDATE 로 클레임 → JavaMailSender.send(배열) 한 번(SMTP 연결 1개 재사용)
+ * - 실패 건만 지수 백오프(+지터)로 재시도, max-attempts 초과 시 DEAD 로 남김(삭제하지 않음)
+ * - 발송 도중 프로세스가 죽으면 리스(lease) 만료 후 다시 보냄(최소 1회 전달)
+ * - 보낸 행과 포기한(DEAD) 행은 본문을 바로 비움(인증 코드가 보관 기간 동안 평문으로 남지 않게), 행 자체는 retention 후 삭제
+ * 로컬 SMTP 스텁(spring.mail.host/port)으로 그대로 검증 가능.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxRepository outboxRepo;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate tx;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration lease;
+    private final Duration retention;
+    private final String from;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "mail-outbox");
+        t.setDaemon(true);
+        return t;
+    });
+    /** 이미 실행이 예약돼 있으면 추가 신호는 합침 */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public MailOutboxDispatcher(
+            MailOutboxRepository outboxRepo,
+            JavaMailSender mailSender,
+            TransactionTemplate transactionTemplate,
+            @Value("${mail.outbox.batch-size:50}") int batchSize,
+            @Value("${mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${mail.outbox.backoff-base:PT30S}") Duration backoffBase,
+            @Value("${mail.outbox.backoff-max:PT1H}") Duration backoffMax,
+            @Value("${mail.outbox.lease:PT2M}") Duration lease,
+            @Value("${mail.outbox.retention:P7D}") Duration retention,
+            @Value("${spring.mail.from:}") String from
+    ) {
+        this.outboxRepo = outboxRepo;
+        this.mailSender = mailSender;
+        this.tx = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.lease = lease;
+        this.retention = retention;
+        this.from = from;
+    }
+
+    /** 적재 트랜잭션 커밋 직후 바로 깨움 */
+    @TransactionalEventListener
+    public void onQueued(MailOutboxService.Queued event) {
+        signal();
+    }
+
+    /** 재시도 대상/이벤트 누락분 수거 */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:PT10S}")
+    public void poll() {
+        signal();
+    }
+
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 40 4 * * *}")
+    public void purge() {
+        int n = outboxRepo.purgeSent(Instant.now().minus(retention));
+        if (n > 0) log.info("mail outbox purged: {} sent rows", n);
+    }
+
+    public void signal() {
+        if (scheduled.compareAndSet(false, true)) {
+            worker.execute(() -> {
+                scheduled.set(false); // 실행 중 들어온 신호는 다음 실행으로
+                try {
+                    drain();
+                } catch (RuntimeException e) {
+                    log.warn("mail outbox dispatch failed: {}", e.toString());
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdown();
+    }
+
+    /* ===== dispatch ===== */
+
+    private void drain() {
+        while (dispatchBatch() == batchSize) {
+            // 꽉 찬 묶음이었으면 남은 게 더 있을 수 있음
+        }
+    }
+
+    /** 한 묶음 클레임 → 발송 → 결과 반영. 처리한 건수 반환 */
+    int dispatchBatch() {
+        Instant now = Instant.now();
+        List<Long> due = outboxRepo.findDueIds(now, PageRequest.of(0, batchSize));
+        if (due.isEmpty()) return 0;
+
+        String token = UUID.randomUUID().toString();
+        if (outboxRepo.claim(due, token, now, now.plus(lease)) == 0) return 0;
+        List<MailOutbox> claimed = outboxRepo.findByClaimToken(token);
+
+        Map<Long, String> errors = send(claimed);
+
+        tx.executeWithoutResult(s -> {
+            Instant done = Instant.now();
+            for (MailOutbox m : outboxRepo.findByClaimToken(token)) {
+                m.setClaimToken(null);
+                m.setAttempts(m.getAttempts() + 1);
+                String error = errors.get(m.getId());
+                if (error == null) {
+                    m.setStatus(MailOutbox.Status.SENT);
+                    m.setSentAt(done);
+                    m.setLastError(null);
+                    m.setBody("");
+                } else if (m.getAttempts() >= maxAttempts) {
+                    m.setStatus(MailOutbox.Status.DEAD);
+                    m.setLastError(truncate(error));
+                    m.setBody("");
+                    log.warn("mail outbox dead-lettered: id={}, attempts={}, error={}", m.getId(), m.getAttempts(), error);
+                } else {
+                    m.setNextAttemptAt(done.plus(backoff(m.getAttempts())));
+                    m.setLastError(truncate(error));
+                }
+            }
+        });
+        if (!errors.isEmpty()) {
+            log.info("mail outbox batch: sent={}, failed={}", claimed.size() - errors.size(), errors.size());
+        }
+        return claimed.size();
+    }
+
+    /** 묶음 발송 — 실패한 건의 id → 오류 메시지 */
+    private Map<Long, String> send(List<MailOutbox> rows) {
+        Map<Object, Long> ids = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            MailOutbox m = rows.get(i);
+            SimpleMailMessage msg = new SimpleMailMessage();
+            if (from != null && !from.isBlank()) msg.setFrom(from);
+            msg.setTo(m.getRecipient());
+            msg.setSubject(m.getSubject());
+            msg.setText(m.getBody());
+            messages[i] = msg;
+            ids.put(msg, m.getId());
+        }
+
+        Map<Long, String> errors = new HashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                ids.values().forEach(id -> errors.put(id, String.valueOf(e.getMessage())));
+            } else {
+                e.getFailedMessages().forEach((msg, ex) -> {
+                    Long id = ids.get(msg);
+                    if (id != null) errors.put(id, String.valueOf(ex.getMessage()));
+                });
+            }
+        } catch (MailException e) {
+            // 연결/인증 실패 등 — 묶음 전체 실패
+            ids.values().forEach(id -> errors.put(id, String.valueOf(e.getMessage())));
+        }
+        return errors;
+    }
+
+    /** base * 2^(attempts-1), 상한 backoffMax, ±20% 지터 */
+    private Duration backoff(int attempts) {
+        long base = backoffBase.toMillis();
+        long millis = Math.min(base << Math.min(attempts - 1, 30), backoffMax.toMillis());
+        long jitter = millis / 5;
+        if (jitter > 0) millis += ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+        return Duration.ofMillis(Math.max(millis, 0));
+    }
+
+    private static String truncate(String s) {
+        return s.length() <= 500 ? s : s.substring(0, 500);
+    }
+}
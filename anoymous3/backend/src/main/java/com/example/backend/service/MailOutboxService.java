@@ -0,0 +1,34 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.MailOutbox;
+import com.example.backend.repo.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일 발송 요청을 아웃박스에 적재(호출한 트랜잭션에 합류).
+ * 실제 SMTP 발송은 커밋 이후 MailOutboxDispatcher 가 담당 — 요청 스레드/DB 커넥션이 SMTP 지연을 기다리지 않음.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    /** 적재 알림(커밋 후 디스패처를 깨우는 용도) */
+    public record Queued(Long id) {}
+
+    private final MailOutboxRepository outboxRepo;
+    private final ApplicationEventPublisher events;
+
+    @Transactional
+    public Long enqueue(String recipient, String subject, String body) {
+        MailOutbox m = outboxRepo.save(MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .build());
+        events.publishEvent(new Queued(m.getId()));
+        return m.getId();
+    }
+}
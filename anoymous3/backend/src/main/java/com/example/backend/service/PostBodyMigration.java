@@ -0,0 +1,210 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.Post;
+import com.example.backend.domain.PostBody;
+import com.example.backend.repo.PostBodyRepository;
+import com.example.backend.util.MarkdownRenderer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * posts.content / posts.content_html(LONGTEXT) → post_bodies 이전.
+ * - 기동 중(웹 요청 전): 이전 컬럼이 남아 있으면 PostBodyStore 보충 읽기 켬(메타데이터만 확인, 테이블 재구성 없음)
+ * - 기동 후 백그라운드 스레드:
+ *   1) posts.content 가 NOT NULL 이면 NULL 허용으로 — 테이블 재구성이라 온라인 DDL(ALGORITHM=INPLACE, LOCK=NONE)로,
+ *      끝날 때까지 새 글 작성만 503(새 글은 이 컬럼을 채우지 않아 INSERT 가 실패함).
+ *      미리 적용하려면: ALTER TABLE posts MODIFY content LONGTEXT NULL, ALGORITHM=INPLACE, LOCK=NONE
+ *   2) id 키셋으로 batch 개씩 읽기 → 인코딩(HTML 없던 행은 렌더) → 배치당 한 트랜잭션으로
+ *      post_bodies INSERT + 이전 컬럼 NULL(+ excerpt 없던 행 채움). 그 사이 사용자가 수정해 본문이 이미 있으면 그대로 둠
+ *      (한 문장 INSERT … ON DUPLICATE KEY — 동시 수정과 겹쳐도 중복 키로 배치가 실패하지 않음)
+ * - 다 옮기면 보충 읽기 끔. drop-legacy-columns=true 면 이전 컬럼 DROP(MySQL 문법)
+ * excerpt/렌더 HTML 이 비어 있던 오래된 행의 백필도 여기서 함께 처리.
+ * 중간에 실패하면 멈추고 retry 주기마다 남은 행부터 다시 시도.
+ */
+@Slf4j
+@Component
+public class PostBodyMigration {
+
+    private final PostBodyRepository bodyRepo;
+    private final PostBodyStore store;
+    private final DataSource dataSource;
+    private final TransactionTemplate tx;
+    private final int batch;
+    private final boolean dropLegacyColumns;
+
+    private boolean legacy;
+    /** posts.content 가 아직 NOT NULL */
+    private volatile boolean notNullPending;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PostBodyMigration(
+            PostBodyRepository bodyRepo,
+            PostBodyStore store,
+            DataSource dataSource,
+            TransactionTemplate transactionTemplate,
+            @Value("${posts.body-migration.batch:200}") int batch,
+            @Value("${posts.body-migration.drop-legacy-columns:false}") boolean dropLegacyColumns
+    ) {
+        this.bodyRepo = bodyRepo;
+        this.store = store;
+        this.dataSource = dataSource;
+        this.tx = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.batch = Math.max(batch, 1);
+        this.dropLegacyColumns = dropLegacyColumns;
+    }
+
+    @PostConstruct
+    void prepare() throws SQLException {
+        Map<String, Boolean> nullable = legacyColumns();
+        if (!nullable.containsKey("content")) return;
+        if (!nullable.containsKey("content_html")) { // 렌더 컬럼 도입 이전 스키마 — 이전 조회 쿼리 모양을 맞춤(끝 열 추가는 즉시 처리)
+            execute("ALTER TABLE posts ADD COLUMN content_html LONGTEXT NULL");
+        }
+        if (!nullable.get("content")) {
+            notNullPending = true;
+            store.setSchemaPending(true);
+        }
+        legacy = true;
+        store.setLegacyPending(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (legacy) launch();
+    }
+
+    /** 실패로 멈춘 이전 재시도(이미 도는 중이면 무시) */
+    @Scheduled(fixedDelayString = "${posts.body-migration.retry:PT5M}",
+            initialDelayString = "${posts.body-migration.retry:PT5M}")
+    public void retry() {
+        if (legacy && store.isLegacyPending()) launch();
+    }
+
+    private void launch() {
+        if (!running.compareAndSet(false, true)) return;
+        Thread t = new Thread(() -> {
+            try {
+                if (makeContentNullable()) migrate();
+            } finally {
+                running.set(false);
+            }
+        }, "post-body-migration");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /** posts.content NULL 허용 — 온라인 DDL 우선, 지원하지 않는 DB 면 일반 ALTER. 실패하면 false */
+    private boolean makeContentNullable() {
+        if (!notNullPending) return true;
+        try {
+            try {
+                execute("ALTER TABLE posts MODIFY content LONGTEXT NULL, ALGORITHM=INPLACE, LOCK=NONE");
+            } catch (SQLException e) {
+                log.info("online ALTER not available ({}), falling back to plain ALTER", e.getMessage());
+                execute("ALTER TABLE posts MODIFY content LONGTEXT NULL");
+            }
+        } catch (SQLException e) {
+            log.warn("making posts.content nullable failed, new posts stay blocked until retry: {}", e.toString());
+            return false;
+        }
+        notNullPending = false;
+        store.setSchemaPending(false);
+        log.info("posts.content made nullable (bodies now live in post_bodies)");
+        return true;
+    }
+
+    void migrate() {
+        long total = 0;
+        long afterId = 0L;
+        try {
+            while (true) {
+                List<Object[]> rows = bodyRepo.findLegacyBodies(afterId, batch);
+                if (rows.isEmpty()) break;
+
+                // 인코딩/렌더는 트랜잭션 밖에서(커넥션 점유 최소화)
+                List<PostBody> bodies = new ArrayList<>(rows.size());
+                List<String> excerpts = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    long id = ((Number) row[0]).longValue();
+                    String content = (String) row[1];
+                    String html = row[2] != null ? (String) row[2] : MarkdownRenderer.renderPost(content);
+                    bodies.add(store.encode(PostBody.builder().postId(id).build(), content, html));
+                    excerpts.add(row[3] != null ? null : Post.excerptOf(content));
+                }
+                tx.executeWithoutResult(s -> {
+                    for (int i = 0; i < bodies.size(); i++) {
+                        PostBody b = bodies.get(i);
+                        bodyRepo.insertIfAbsent(b.getPostId(), b.getEncoding().name(), b.getContent(),
+                                b.getContentLength(), b.getContentHtml(), b.getHtmlLength());
+                        bodyRepo.clearLegacyBody(b.getPostId(), excerpts.get(i));
+                    }
+                });
+                total += rows.size();
+                afterId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+                if (rows.size() < batch) break;
+            }
+        } catch (RuntimeException e) {
+            log.warn("post body migration stopped after {} rows, will retry: {}", total, e.toString());
+            return;
+        }
+        store.setLegacyPending(false);
+        log.info("post body migration: {} rows moved to post_bodies", total);
+
+        if (dropLegacyColumns) {
+            try {
+                execute("ALTER TABLE posts DROP COLUMN content, DROP COLUMN content_html");
+                log.info("posts.content / posts.content_html dropped");
+            } catch (SQLException e) {
+                log.warn("dropping legacy post body columns failed: {}", e.toString());
+            }
+        }
+    }
+
+    /* ===== helpers ===== */
+
+    /** posts 의 이전 본문 컬럼 → nullable 여부(없으면 비어 있음) */
+    private Map<String, Boolean> legacyColumns() throws SQLException {
+        Map<String, Boolean> out = new HashMap<>();
+        try (Connection c = dataSource.getConnection()) {
+            DatabaseMetaData md = c.getMetaData();
+            // 식별자 대소문자 저장 방식이 DB 마다 달라 두 가지로 조회
+            for (String table : new String[]{"posts", "POSTS"}) {
+                try (ResultSet rs = md.getColumns(c.getCatalog(), null, table, null)) {
+                    while (rs.next()) {
+                        String name = rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT);
+                        if (name.equals("content") || name.equals("content_html")) {
+                            out.put(name, rs.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls);
+                        }
+                    }
+                }
+                if (!out.isEmpty()) break;
+            }
+        }
+        return out;
+    }
+
+    private void execute(String ddl) throws SQLException {
+        try (Connection c = dataSource.getConnection(); Statement st = c.createStatement()) {
+            st.execute(ddl);
+        }
+    }
+}
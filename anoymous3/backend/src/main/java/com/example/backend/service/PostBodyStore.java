@@ -0,0 +1,138 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.Post;
+import com.example.backend.domain.PostBody;
+import com.example.backend.repo.PostBodyRepository;
+import com.example.backend.util.Deflate;
+import com.example.backend.util.MarkdownRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 게시글 본문 저장소(post_bodies) — 압축/해제를 감춘 읽기·쓰기 창구.
+ * - 원문 UTF-8 이 threshold 바이트 이상이면 원문/HTML 을 deflate(줄어들 때만), 아니면 그대로
+ * - 쓰기는 호출 측 트랜잭션에 참여(posts 메타데이터와 같은 커밋)
+ * - PostBodyMigration 이 이전 컬럼을 옮기는 동안에는 post_bodies 에 없는 글을 posts 에서 읽어 보충
+ */
+@Component
+public class PostBodyStore {
+
+    /** 디코딩된 본문 */
+    public record Body(String content, String contentHtml) {
+        static final Body EMPTY = new Body("", "");
+    }
+
+    private final PostBodyRepository bodyRepo;
+    private final int threshold;
+    private final int level;
+
+    /** 이전 컬럼에 아직 남은 본문이 있을 수 있음(PostBodyMigration 이 관리) */
+    private volatile boolean legacyPending;
+    /** posts.content 가 아직 NOT NULL(PostBodyMigration 이 온라인 ALTER 중) — 새 글 INSERT 가 실패하므로 막음 */
+    private volatile boolean schemaPending;
+
+    public PostBodyStore(
+            PostBodyRepository bodyRepo,
+            @Value("${posts.body.compress-threshold:2048}") int threshold,
+            @Value("${posts.body.compress-level:6}") int level
+    ) {
+        this.bodyRepo = bodyRepo;
+        this.threshold = Math.max(threshold, 0);
+        this.level = level;
+    }
+
+    /** 본문 한 건(없으면 빈 본문) */
+    public Body load(Long postId) {
+        return bodyRepo.findById(postId)
+                .map(PostBodyStore::decode)
+                .orElseGet(() -> loadLegacy(List.of(postId)).getOrDefault(postId, Body.EMPTY));
+    }
+
+    /** 본문 여러 건(IN 한 번) — 없는 id 는 결과에서 빠짐 */
+    public Map<Long, Body> loadAll(Collection<Long> postIds) {
+        Map<Long, Body> out = new HashMap<>();
+        if (postIds.isEmpty()) return out;
+        for (PostBody b : bodyRepo.findAllById(postIds)) out.put(b.getPostId(), decode(b));
+        if (out.size() < postIds.size()) {
+            List<Long> missing = postIds.stream().filter(id -> !out.containsKey(id)).toList();
+            loadLegacy(missing).forEach(out::putIfAbsent);
+        }
+        return out;
+    }
+
+    /** 원문 저장(렌더 HTML 함께) + 글 excerpt 갱신 — 호출 측 트랜잭션 안에서 */
+    public void write(Post post, String content) {
+        String html = MarkdownRenderer.renderPost(content);
+        PostBody body = bodyRepo.findById(post.getId())
+                .orElseGet(() -> PostBody.builder().postId(post.getId()).build());
+        encode(body, content, html);
+        bodyRepo.save(body);
+        post.setExcerpt(Post.excerptOf(content));
+    }
+
+    /** 인코딩만(저장은 호출 측) — PostBodyMigration 에서도 사용 */
+    PostBody encode(PostBody body, String content, String html) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        byte[] rawHtml = html.getBytes(StandardCharsets.UTF_8);
+        byte[] packed = raw.length >= threshold ? Deflate.compress(raw, level) : null;
+        byte[] packedHtml = packed != null ? Deflate.compress(rawHtml, level) : null;
+
+        if (packed != null && packedHtml != null) {
+            body.setEncoding(PostBody.Encoding.DEFLATE);
+            body.setContent(packed);
+            body.setContentHtml(packedHtml);
+        } else {
+            body.setEncoding(PostBody.Encoding.RAW);
+            body.setContent(raw);
+            body.setContentHtml(rawHtml);
+        }
+        body.setContentLength(raw.length);
+        body.setHtmlLength(rawHtml.length);
+        return body;
+    }
+
+    static Body decode(PostBody b) {
+        boolean deflated = b.getEncoding() == PostBody.Encoding.DEFLATE;
+        byte[] content = deflated ? Deflate.decompress(b.getContent(), b.getContentLength()) : b.getContent();
+        byte[] html = deflated ? Deflate.decompress(b.getContentHtml(), b.getHtmlLength()) : b.getContentHtml();
+        return new Body(new String(content, StandardCharsets.UTF_8), new String(html, StandardCharsets.UTF_8));
+    }
+
+    /** 새 글 작성 전 확인 — 이전 컬럼 NULL 허용 전환이 끝나기 전이면 503 */
+    public void requireWritable() {
+        if (schemaPending) {
+            throw new RejectedExecutionException("게시글 저장소를 준비 중입니다. 잠시 후 다시 시도하세요.");
+        }
+    }
+
+    void setSchemaPending(boolean pending) {
+        this.schemaPending = pending;
+    }
+
+    void setLegacyPending(boolean pending) {
+        this.legacyPending = pending;
+    }
+
+    boolean isLegacyPending() {
+        return legacyPending;
+    }
+
+    /** 옮기기 전 글 — HTML 이 비어 있던 행(렌더 컬럼 도입 이전)은 즉석 렌더 */
+    private Map<Long, Body> loadLegacy(Collection<Long> postIds) {
+        Map<Long, Body> out = new HashMap<>();
+        if (!legacyPending) return out;
+        for (Object[] row : bodyRepo.findLegacyBodiesByIdIn(postIds)) {
+            String content = (String) row[1];
+            String html = row[2] != null ? (String) row[2] : MarkdownRenderer.renderPost(content);
+            out.put(((Number) row[0]).longValue(), new Body(content, html));
+        }
+        return out;
+    }
+}
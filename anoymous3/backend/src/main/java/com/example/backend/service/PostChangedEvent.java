@@ -0,0 +1,19 @@
+package com.example.backend.service;
+
+/**
+ * 게시글 변경 이벤트(커밋 이후 @TransactionalEventListener 로 소비).
+ * 검색 색인 등 DB 밖의 파생 상태를 맞추는 용도 — 본문/제목은 변경 시점 스냅샷.
+ */
+public record PostChangedEvent(
+        Type type,
+        Long postId,
+        String title,
+        String content,
+        boolean notice
+) {
+    public enum Type { CREATED, UPDATED, DELETED, NOTICE_CHANGED }
+
+    public static PostChangedEvent deleted(Long postId, boolean notice) {
+        return new PostChangedEvent(Type.DELETED, postId, null, null, notice);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostDtos.PostSummaryRes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 목록(GET /api/posts) 앞쪽 페이지 read-through 캐시.
+ * - 키: 필터(전체/공지/일반) + page + size + sort, "내 글"은 캐시하지 않음
+ * - LRU(최대 개수) + TTL
+ * - 무효화는 PostChangedEvent(커밋 후) 기준으로 필요한 것만:
+ *   생성/삭제 → 해당 글이 속한 필터 전체(총 개수가 바뀜), 수정 → 그 글을 담은 항목만,
+ *   공지 전환 → 공지/일반 필터 전체
+ * 지표: posts.list.cache.requests{result=hit|miss}, posts.list.cache.invalidations, posts.list.cache.size
+ */
+@Component
+public class PostListCache {
+
+    public enum Filter { ALL, NOTICE, REGULAR }
+
+    private record Key(Filter filter, int page, int size, String sort) {}
+
+    private record Entry(Page<PostSummaryRes> page, Set<Long> ids, long expiresAt) {}
+
+    private final int maxEntries;
+    private final int maxPage;
+    private final long ttlNanos;
+
+    private final Map<Key, Entry> entries;
+    /** 필터별 세대 — 조회 중 무효화가 끼면 오래된 결과를 넣지 않기 위함(this 로 보호) */
+    private final Map<Filter, Long> generations = new EnumMap<>(Filter.class);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public PostListCache(
+            @Value("${posts.list-cache.max-entries:256}") int maxEntries,
+            @Value("${posts.list-cache.max-page:1}") int maxPage,
+            @Value("${posts.list-cache.ttl:30s}") Duration ttl,
+            MeterRegistry meters
+    ) {
+        this.maxEntries = maxEntries;
+        this.maxPage = maxPage;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > PostListCache.this.maxEntries;
+            }
+        };
+        for (Filter f : Filter.values()) generations.put(f, 0L);
+
+        this.hits = Counter.builder("posts.list.cache.requests").tag("result", "hit").register(meters);
+        this.misses = Counter.builder("posts.list.cache.requests").tag("result", "miss").register(meters);
+        this.invalidations = Counter.builder("posts.list.cache.invalidations").register(meters);
+        Gauge.builder("posts.list.cache.size", this, PostListCache::size).register(meters);
+    }
+
+    /** 캐시 대상 페이지(0 ~ max-page)면 캐시에서, 아니면 바로 loader */
+    public Page<PostSummaryRes> get(Filter filter, Pageable pageable, Supplier<Page<PostSummaryRes>> loader) {
+        if (maxEntries <= 0 || pageable.isUnpaged() || pageable.getPageNumber() > maxPage) {
+            return loader.get();
+        }
+        Key key = new Key(filter, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        long gen;
+        synchronized (this) {
+            Entry e = entries.get(key);
+            if (e != null && e.expiresAt() - System.nanoTime() > 0) {
+                hits.increment();
+                return e.page();
+            }
+            if (e != null) entries.remove(key);
+            gen = generations.get(filter);
+        }
+        misses.increment();
+
+        Page<PostSummaryRes> page = loader.get();
+        Set<Long> ids = page.getContent().stream().map(PostSummaryRes::id).collect(Collectors.toSet());
+        synchronized (this) {
+            if (generations.get(filter) == gen) {
+                entries.put(key, new Entry(page, ids, System.nanoTime() + ttlNanos));
+            }
+        }
+        return page;
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent e) {
+        Filter own = e.notice() ? Filter.NOTICE : Filter.REGULAR;
+        switch (e.type()) {
+            case CREATED, DELETED -> {
+                invalidate(Filter.ALL);
+                invalidate(own);
+            }
+            case UPDATED -> invalidatePost(e.postId());
+            case NOTICE_CHANGED -> {
+                invalidate(Filter.NOTICE);
+                invalidate(Filter.REGULAR);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void invalidate(Filter filter) {
+        generations.merge(filter, 1L, Long::sum);
+        entries.keySet().removeIf(k -> k.filter() == filter);
+        invalidations.increment();
+    }
+
+    private synchronized void invalidatePost(Long postId) {
+        for (Filter f : Filter.values()) generations.merge(f, 1L, Long::sum);
+        entries.values().removeIf(e -> e.ids().contains(postId));
+        invalidations.increment();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.Post;
+import com.example.backend.dto.PostDtos.PostSummaryRes;
+import com.example.backend.repo.PostRepository;
+import com.example.backend.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색.
+ * - 기동 시 DB 전체로 역색인을 재구성하고, 이후엔 PostChangedEvent(커밋 후)로 증분 반영
+ * - 재구성이 끝나기 전(또는 실패해 재시도 중)에는 제목/미리보기 LIKE 로 대신 답하고 partial 표시
+ *   (본문이 압축 저장이라 DB LIKE 로는 본문 검색이 안 됨 — 엔드포인트를 내리는 대신 약한 결과임을 알림)
+ * - 재구성이 실패하면 rebuild-retry 주기로 다시 시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    /** 검색 결과 — partial 이면 색인 준비 전 대체 경로(제목/미리보기만) 결과 */
+    public record Result(Page<PostSummaryRes> page, boolean partial) {}
+
+    /** 응답 헤더 — 부분 결과 여부 */
+    public static final String PARTIAL_HEADER = "X-Search-Partial";
+
+    private static final int REBUILD_BATCH = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PostRepository postRepo;
+    private final PostBodyStore bodies;
+
+    private volatile PostSearchIndex index = new PostSearchIndex();
+    private volatile boolean ready = false;
+
+    /** 재구성 중 들어온 변경(새 색인에 다시 반영), this 로 보호 */
+    private final List<PostChangedEvent> pending = new ArrayList<>();
+    private boolean rebuilding = false;
+
+    public Result search(String q, Boolean notice, Pageable pageable) {
+        if (q == null || q.isBlank()) return new Result(Page.empty(pageable), false);
+        int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+        Pageable page = PageRequest.of(pageable.getPageNumber(), size);
+
+        if (!ready) {
+            return new Result(postRepo.searchTitleOrExcerpt(q.trim(), notice, page), true);
+        }
+
+        PostSearchIndex.Hits hits = index.search(q, notice, (int) page.getOffset(), size);
+        if (hits.ids().isEmpty()) return new Result(new PageImpl<>(List.of(), page, hits.total()), false);
+
+        // 랭킹 순서 유지(IN 조회는 순서를 보장하지 않음)
+        Map<Long, PostSummaryRes> byId = postRepo.findSummariesByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(PostSummaryRes::id, Function.identity()));
+        List<PostSummaryRes> rows = hits.ids().stream().map(byId::get).filter(r -> r != null).toList();
+        return new Result(new PageImpl<>(rows, page, hits.total()), false);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onPostChanged(PostChangedEvent e) {
+        if (rebuilding) pending.add(e);
+        apply(index, e);
+    }
+
+    /** 기동 시 재구성이 실패했으면 다시 시도 */
+    @Scheduled(fixedDelayString = "${posts.search.rebuild-retry:PT1M}",
+            initialDelayString = "${posts.search.rebuild-retry:PT1M}")
+    public void retryRebuild() {
+        if (!ready) rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            if (rebuilding) return;
+            rebuilding = true;
+            pending.clear();
+        }
+        PostSearchIndex fresh = new PostSearchIndex();
+        try {
+            long after = 0L;
+            List<Post> batch;
+            do {
+                batch = postRepo.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, REBUILD_BATCH));
+                Map<Long, PostBodyStore.Body> text = bodies.loadAll(batch.stream().map(Post::getId).toList());
+                for (Post p : batch) {
+                    PostBodyStore.Body b = text.get(p.getId());
+                    fresh.put(p.getId(), p.getTitle(), b != null ? b.content() : "", p.isNotice());
+                    after = p.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH);
+        } catch (RuntimeException ex) {
+            synchronized (this) { rebuilding = false; pending.clear(); }
+            log.error("post search index rebuild failed — search answers partial (title/excerpt) results until a retry succeeds", ex);
+            return;
+        }
+        synchronized (this) {
+            for (PostChangedEvent e : pending) apply(fresh, e);
+            pending.clear();
+            index = fresh;
+            rebuilding = false;
+            ready = true;
+        }
+        log.info("post search index ready: {} docs", fresh.size());
+    }
+
+    private static void apply(PostSearchIndex idx, PostChangedEvent e) {
+        switch (e.type()) {
+            case CREATED, UPDATED -> idx.put(e.postId(), e.title(), e.content(), e.notice());
+            case NOTICE_CHANGED -> idx.setNotice(e.postId(), e.notice());
+            case DELETED -> idx.remove(e.postId());
+        }
+    }
+}
@@ -3,119 +3,194 @@ package com.example.backend.service;
 import com.example.backend.domain.Post;
 import com.example.backend.domain.User;
 import com.example.backend.dto.PostDtos.CreateReq;
+import com.example.backend.dto.PostDtos.FeedRes;
 import com.example.backend.dto.PostDtos.PostAdminRes;
 import com.example.backend.dto.PostDtos.PostRes;
+import com.example.backend.dto.PostDtos.PostSummaryRes;
 import com.example.backend.repo.CommentRepository;
 import com.example.backend.repo.PostRepository;
 import com.example.backend.repo.UserRepository;
+import com.example.backend.security.AuthUser;
+import com.example.backend.util.FeedCursor;
+import com.example.backend.util.TotalMode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
 
+    /** 키셋 피드 한 번에 내려줄 수 있는 최대 개수 */
+    private static final int MAX_FEED_SIZE = 100;
+
     private final PostRepository postRepo;
     private final UserRepository userRepo;
     private final CommentRepository commentRepo;
+    private final ApplicationEventPublisher events;
+    private final PostListCache listCache;
+    private final PostViewCounter viewCounter;
+    private final CountCache counts;
+    private final PostBodyStore bodies;
 
     public PostRes get(Long id) {
         Post p = postRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시물이 없습니다."));
         if (p.getDeletedAt() != null) throw new IllegalArgumentException("삭제된 게시물입니다.");
+        viewCounter.record(id); // 메모리 누적만(DB 쓰기는 주기 반영)
         return toRes(p);
     }
 
     /** 기존 시그니처 유지(컨트롤러 호환) */
-    public Page<PostRes> list(Boolean mine, Pageable pageable) {
+    public Page<PostSummaryRes> list(Boolean mine, Pageable pageable) {
         return list(mine, null, pageable);
     }
 
-    /** notice 필터까지 지원하는 확장 목록 API */
-    public Page<PostRes> list(Boolean mine, Boolean notice, Pageable pageable) {
+    /**
+     * notice 필터까지 지원하는 확장 목록 API.
+     * 목록은 요약 프로젝션만 읽음(본문 LONGTEXT 미로딩) — 본문은 get() 으로만.
+     */
+    public Page<PostSummaryRes> list(Boolean mine, Boolean notice, Pageable pageable) {
         // 공지/일반 필터
         if (notice != null) {
-            if (Boolean.TRUE.equals(notice)) {
-                return postRepo.findByNoticeTrueAndDeletedAtIsNull(pageable).map(this::toRes);
-            } else {
-                return postRepo.findByNoticeFalseAndDeletedAtIsNull(pageable).map(this::toRes);
-            }
+            PostListCache.Filter filter = notice ? PostListCache.Filter.NOTICE : PostListCache.Filter.REGULAR;
+            return listCache.get(filter, pageable, () -> postRepo.findSummaries(notice, pageable));
         }
 
         // 내 글만
         if (Boolean.TRUE.equals(mine)) {
-            String email = currentEmail();
-            if (email == null) throw new AccessDeniedException("로그인이 필요합니다.");
-            return postRepo.findByDeletedAtIsNullAndAuthor_EmailIgnoreCase(email, pageable)
-                    .map(this::toRes);
+            return postRepo.findSummariesByAuthorId(requireUserId(), pageable);
         }
 
         // 전체(삭제되지 않은 글만)
-        return postRepo.findByDeletedAtIsNull(pageable).map(this::toRes);
+        return listCache.get(PostListCache.Filter.ALL, pageable, () -> postRepo.findSummaries(null, pageable));
+    }
+
+    /**
+     * 전체 개수 계산 방식을 고를 수 있는 목록(?total=).
+     * exact 는 위 list 와 동일, approx 는 개수 캐시 값, none 은 Slice(count 쿼리 없음).
+     * "내 글"은 개수 캐시가 없으므로 approx 여도 정확한 개수.
+     */
+    public Slice<PostSummaryRes> list(Boolean mine, Boolean notice, TotalMode total, Pageable pageable) {
+        boolean byAuthor = notice == null && Boolean.TRUE.equals(mine);
+        if (total == TotalMode.EXACT || (total == TotalMode.APPROX && byAuthor)) {
+            return list(mine, notice, pageable);
+        }
+        Slice<PostSummaryRes> slice = byAuthor
+                ? postRepo.findSummarySliceByAuthorId(requireUserId(), pageable)
+                : postRepo.findSummarySlice(notice, pageable);
+        return total == TotalMode.NONE ? slice : counts.page(slice, CountCache.posts(notice));
+    }
+
+    /**
+     * 키셋(커서) 기반 피드 — (createdAt, id) seek 이라 깊은 페이지도 첫 페이지와 비용이 같고 count 쿼리가 없음.
+     * 필터 우선순위는 list()와 동일(notice → mine → 전체).
+     */
+    public FeedRes feed(Boolean mine, Boolean notice, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        FeedCursor after = FeedCursor.decode(cursor);
+        Instant cursorAt = after != null ? after.createdAt() : null;
+        Long cursorId = after != null ? after.id() : null;
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        Pageable probe = PageRequest.of(0, limit + 1);
+
+        List<PostSummaryRes> rows;
+        if (notice == null && Boolean.TRUE.equals(mine)) {
+            rows = postRepo.findFeedByAuthorId(requireUserId(), cursorAt, cursorId, probe);
+        } else {
+            rows = postRepo.findFeed(notice, cursorAt, cursorId, probe);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryRes last = rows.get(rows.size() - 1);
+            nextCursor = new FeedCursor(last.createdAt(), last.id()).encode();
+        }
+        return new FeedRes(rows, nextCursor, hasNext);
     }
 
     /** (ADMIN) 게시물 목록 — 삭제 제외(안정 버전) */
     public Page<PostAdminRes> adminList(Pageable pageable) {
         // 기존 native(삭제 포함) 경로의 500을 피하기 위해 표준 JPA 경로 사용
         // 필요 시 삭제 포함 버전은 별도 native + projection으로 재도입 가능
-        return postRepo.findAll(pageable).map(this::toAdminRes);
+        Page<Post> posts = postRepo.findAll(pageable);
+        Map<Long, PostBodyStore.Body> byId = bodiesOf(posts);
+        return posts.map(p -> toAdminRes(p, byId.get(p.getId())));
+    }
+
+    /** (ADMIN) 게시물 목록 — 전체 개수 방식 선택(?total=) */
+    public Slice<PostAdminRes> adminList(TotalMode total, Pageable pageable) {
+        if (total == TotalMode.EXACT) return adminList(pageable);
+        Slice<Post> posts = postRepo.findSliceBy(pageable);
+        Map<Long, PostBodyStore.Body> byId = bodiesOf(posts);
+        Slice<PostAdminRes> slice = posts.map(p -> toAdminRes(p, byId.get(p.getId())));
+        return total == TotalMode.NONE ? slice : counts.page(slice, CountCache.Key.POSTS);
     }
 
     @Transactional
     public Long create(CreateReq req) {
-        String email = currentEmail();
-        if (email == null) throw new AccessDeniedException("로그인이 필요합니다.");
-
-        User author = userRepo.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("작성자 계정을 찾을 수 없습니다."));
+        bodies.requireWritable();
+        // 작성자는 참조(프록시)만 — FK 값만 필요하므로 users SELECT 없음
+        User author = userRepo.getReferenceById(requireUserId());
 
         Post p = Post.builder()
                 .title(req.title())
-                .content(req.content())
                 .author(author)
                 .notice(false) // 일반 작성은 기본 false (공지 작성은 /api/admin/notices 사용)
+                .excerpt(Post.excerptOf(req.content()))
                 .build();
         Post saved = postRepo.save(p);
+        bodies.write(saved, req.content()); // 원문 + 렌더된 HTML → post_bodies
+        events.publishEvent(new PostChangedEvent(PostChangedEvent.Type.CREATED,
+                saved.getId(), saved.getTitle(), req.content(), saved.isNotice()));
         return saved.getId();
     }
 
     @Transactional
     public void update(Long id, String title, String content) {
-        String email = currentEmail();
-        if (email == null) throw new AccessDeniedException("로그인이 필요합니다.");
+        Long uid = requireUserId();
 
         Post p = postRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
 
-        if (p.getAuthor() == null || !email.equalsIgnoreCase(p.getAuthor().getEmail())) {
+        if (!isAuthor(p.getAuthor(), uid)) {
             throw new AccessDeniedException("수정 권한이 없습니다.");
         }
         if (title != null && !title.isBlank()) p.setTitle(title.trim());
-        if (content != null) p.setContent(content);
+        String current = bodies.load(p.getId()).content();
+        if (content != null && !content.equals(current)) {
+            bodies.write(p, content);
+            current = content;
+        }
+        events.publishEvent(new PostChangedEvent(PostChangedEvent.Type.UPDATED,
+                p.getId(), p.getTitle(), current, p.isNotice()));
     }
 
     @Transactional
     public void delete(Long id) {
-        String email = currentEmail();
-        if (email == null) throw new AccessDeniedException("로그인이 필요합니다.");
+        Long uid = requireUserId();
 
         Post p = postRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
 
-        if (p.getAuthor() == null || !email.equalsIgnoreCase(p.getAuthor().getEmail())) {
+        if (!isAuthor(p.getAuthor(), uid)) {
             throw new AccessDeniedException("삭제 권한이 없습니다.");
         }
         postRepo.delete(p);
+        events.publishEvent(PostChangedEvent.deleted(id, p.isNotice()));
     }
 
     /* ===== 관리자용 ===== */
@@ -128,11 +203,16 @@ public class PostService {
     public PostRes setNotice(Long id, Boolean notice) {
         Post p = postRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시물이 없습니다."));
+        boolean before = p.isNotice();
         if (notice == null) {
             p.setNotice(!p.isNotice());
         } else {
             p.setNotice(notice);
         }
+        if (p.isNotice() != before) { // 실제 전환일 때만(개수 캐시가 공지/일반 사이 이동으로 처리)
+            events.publishEvent(new PostChangedEvent(PostChangedEvent.Type.NOTICE_CHANGED,
+                    p.getId(), p.getTitle(), null, p.isNotice()));
+        }
         return toRes(p);
     }
 
@@ -144,25 +224,34 @@ public class PostService {
             p.setDeletedAt(Instant.now());
         }
         commentRepo.softDeleteAllByPostId(id, Instant.now());
+        events.publishEvent(PostChangedEvent.deleted(id, p.isNotice()));
     }
 
     /* ===== helpers ===== */
 
     private PostRes toRes(Post p) {
+        PostBodyStore.Body body = bodies.load(p.getId()); // 본문은 단건 조회에서만 읽음
         return new PostRes(
                 p.getId(),
                 p.getTitle(),
-                p.getContent(),
+                body.content(),
+                body.contentHtml(),
                 p.getAuthor() != null ? p.getAuthor().getActivityId() : null,
+                p.getViewCount() + viewCounter.pending(p.getId()),
                 p.getCreatedAt()
         );
     }
 
-    private PostAdminRes toAdminRes(Post p) {
+    /** 관리자 목록 — 페이지 글들의 본문을 IN 한 번으로 */
+    private Map<Long, PostBodyStore.Body> bodiesOf(Slice<Post> posts) {
+        return bodies.loadAll(posts.getContent().stream().map(Post::getId).toList());
+    }
+
+    private PostAdminRes toAdminRes(Post p, PostBodyStore.Body body) {
         return new PostAdminRes(
                 p.getId(),
                 p.getTitle(),
-                p.getContent(),
+                body != null ? body.content() : "",
                 p.getAuthor() != null ? p.getAuthor().getActivityId() : null,
                 p.isNotice(),
                 p.getCreatedAt(),
@@ -171,12 +260,15 @@ public class PostService {
         );
     }
 
-    private String currentEmail() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null) return null;
-        Object principal = auth.getPrincipal();
-        if (principal instanceof UserDetails ud) return ud.getUsername();
-        String name = auth.getName();
-        return (name != null && !name.isBlank()) ? name : null;
+    /** 토큰의 uid(users 조회 없음). 미인증이면 AccessDenied */
+    private Long requireUserId() {
+        Long uid = AuthUser.currentId();
+        if (uid == null) throw new AccessDeniedException("로그인이 필요합니다.");
+        return uid;
+    }
+
+    private static boolean isAuthor(User author, Long uid) {
+        // 지연 로딩 프록시여도 getId() 는 초기화하지 않음
+        return author != null && uid.equals(author.getId());
     }
 }
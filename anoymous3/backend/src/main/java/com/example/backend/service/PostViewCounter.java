@@ -0,0 +1,92 @@
+package com.example.backend.service;
+
+import com.example.backend.repo.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 카운터.
+ * - 조회 시에는 메모리(게시글별 LongAdder)만 증가 → 인기 글 조회가 DB 행 락을 잡지 않음
+ * - 주기적으로 모아서 UPDATE: 증가량이 같은 글끼리 묶어 "view_count + :delta WHERE id IN (...)" 한 문장
+ * - 종료 시(@PreDestroy) 남은 증가분 반영
+ * - 반영 실패분은 다시 메모리에 돌려놓고 다음 주기에 재시도
+ * 조회수는 근사치(유휴 항목 정리와 동시에 들어온 증가 1건 정도는 유실될 수 있음).
+ * 지표: posts.views.pending(반영 대기 중인 게시글 수)
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    /** IN 목록 최대 길이 */
+    private static final int MAX_IDS_PER_UPDATE = 500;
+
+    private final PostRepository postRepo;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public PostViewCounter(PostRepository postRepo, MeterRegistry meters) {
+        this.postRepo = postRepo;
+        Gauge.builder("posts.views.pending", pending, Map::size).register(meters);
+    }
+
+    /** 조회 1건 기록(메모리만) */
+    public void record(Long postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) adder = pending.computeIfAbsent(postId, k -> new LongAdder());
+        adder.increment();
+    }
+
+    /** 아직 DB 에 반영되지 않은 증가분 */
+    public long pending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${posts.views.flush-interval:PT5S}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        // 증가량별로 묶기(대부분 1~몇 회라 문장 수가 적음), id 정렬로 락 순서 고정
+        Map<Long, List<Long>> byDelta = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> e : pending.entrySet()) {
+            long n = e.getValue().sumThenReset();
+            if (n == 0) {
+                pending.remove(e.getKey(), e.getValue()); // 한 주기 동안 조회 없던 항목 정리
+                continue;
+            }
+            byDelta.computeIfAbsent(n, k -> new ArrayList<>()).add(e.getKey());
+        }
+
+        for (Map.Entry<Long, List<Long>> group : byDelta.entrySet()) {
+            long delta = group.getKey();
+            List<Long> ids = group.getValue();
+            ids.sort(null);
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size()));
+                try {
+                    postRepo.addViewCounts(chunk, delta);
+                } catch (RuntimeException ex) {
+                    log.warn("post view flush failed ({} posts, +{}): {}", chunk.size(), delta, ex.toString());
+                    for (Long id : chunk) {
+                        pending.computeIfAbsent(id, k -> new LongAdder()).add(delta);
+                    }
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.backend.service;
+
+import com.example.backend.repo.PostReactionCountRepository;
+import com.example.backend.repo.PostReactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * post_reaction_counts 재계산 작업.
+ * - 게시글 id 구간 단위로 나눠 짧은 트랜잭션으로 덮어씀(긴 락 방지)
+ * - 기본 매일 새벽 1회, 집계 테이블이 비어 있으면 기동 시에도 1회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionCountReconciler {
+
+    private final PostReactionCountRepository countRepo;
+    private final PostReactionRepository reactionRepo;
+
+    @Value("${reactions.reconcile.chunk:1000}")
+    private int chunk;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIfEmpty() {
+        if (countRepo.count() == 0 && reactionRepo.count() > 0) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${reactions.reconcile.cron:0 17 4 * * *}")
+    public void reconcile() {
+        long maxId = countRepo.maxPostId();
+        long rows = 0;
+        for (long from = 1; from <= maxId; from += chunk) {
+            rows += countRepo.reconcileRange(from, from + chunk);
+        }
+        log.info("reaction counts reconciled: maxPostId={}, affectedRows={}", maxId, rows);
+    }
+}
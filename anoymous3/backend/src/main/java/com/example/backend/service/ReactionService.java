@@ -1,60 +1,154 @@
 package com.example.backend.service;
 
-import com.example.backend.domain.Post;
 import com.example.backend.domain.PostReaction;
+import com.example.backend.domain.PostReactionCount;
 import com.example.backend.dto.ReactionDtos.SummaryRes;
 import com.example.backend.dto.ReactionDtos.ToggleReq;
+import com.example.backend.repo.PostReactionCountRepository;
 import com.example.backend.repo.PostReactionRepository;
 import com.example.backend.repo.PostRepository;
-import com.example.backend.repo.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
 public class ReactionService {
+    /** 반응 집계 변화(커밋 후 인기 글 랭킹이 소비) — 취소/전환은 음수 */
+    public record Changed(Long postId, long likes, long dislikes) {}
+
+    /** 일괄 요약 1회 요청당 최대 게시글 수 */
+    private static final int MAX_BATCH = 100;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO post_reactions (post_id, user_id, type, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP(6))";
+
     private final PostReactionRepository reactionRepo;
+    private final PostReactionCountRepository countRepo;
     private final PostRepository postRepo;
-    private final UserRepository userRepo;
+    private final ApplicationEventPublisher events;
+    private final JdbcTemplate jdbc;
 
-    public SummaryRes summary(Long postId, String email) {
-        long likes = reactionRepo.countByPost_IdAndType(postId, PostReaction.Type.LIKE);
-        long dislikes = reactionRepo.countByPost_IdAndType(postId, PostReaction.Type.DISLIKE);
+    /** 집계는 post_reaction_counts PK 조회 한 번(COUNT 쿼리 없음) */
+    public SummaryRes summary(Long postId, Long userId) {
         String my = null;
-        if (email != null) {
-            var user = userRepo.findByEmail(email).orElse(null);
-            if (user != null) {
-                var r = reactionRepo.findByPost_IdAndUser_Id(postId, user.getId()).orElse(null);
-                if (r != null) my = r.getType().name();
-            }
+        if (userId != null) {
+            var r = reactionRepo.findByPost_IdAndUser_Id(postId, userId).orElse(null);
+            if (r != null) my = r.getType().name();
+        }
+        return counts(postId, my);
+    }
+
+    /**
+     * 여러 게시글 요약을 한 번에(피드 한 페이지용).
+     * 집계 1쿼리(PK IN) + 내 반응 1쿼리 — 게시글 수와 무관하게 고정.
+     * 응답은 요청 순서를 유지, 반응이 없는 글은 0/0/null.
+     */
+    public Map<Long, SummaryRes> summaries(List<Long> postIds, Long userId) {
+        List<Long> ids = postIds == null ? List.of()
+                : postIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_BATCH) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_BATCH + "개입니다.");
+        }
+        Map<Long, SummaryRes> out = new LinkedHashMap<>();
+        if (ids.isEmpty()) return out;
+
+        Map<Long, PostReactionCount> counts = countRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(PostReactionCount::getPostId, Function.identity()));
+
+        Map<Long, String> mine = new HashMap<>();
+        if (userId != null) {
+            reactionRepo.findByUser_IdAndPost_IdIn(userId, ids)
+                    .forEach(r -> mine.put(r.getPost().getId(), r.getType().name()));
+        }
+
+        for (Long id : ids) {
+            PostReactionCount c = counts.get(id);
+            out.put(id, c != null
+                    ? new SummaryRes(c.getLikes(), c.getDislikes(), mine.get(id))
+                    : new SummaryRes(0, 0, mine.get(id)));
         }
-        return new SummaryRes(likes, dislikes, my);
+        return out;
     }
 
+    /**
+     * 좋아요/싫어요 토글.
+     * 조회 후 수정 대신 조건부 DML 을 차례로 시도(취소 → 전환 → 추가)하고 영향 행 수로 전이를 판단.
+     * 더블클릭 같은 동시 요청도 유니크 키 위반(500) 없이 한쪽만 반영됨.
+     * - 추가는 평범한 INSERT — 잠금 읽기(NOT EXISTS 서브쿼리)가 없어 동시 첫 클릭끼리 갭 락 교착이 없고,
+     *   ON DUPLICATE KEY 의 영향 행 수(found rows 설정에 따라 달라짐)에 기대지 않음
+     * - 동시 요청이 먼저 넣어 중복 키가 나면 그 반응을 그대로 둠(집계 변화 없음)
+     */
     @Transactional
-    public SummaryRes toggle(Long postId, String email, ToggleReq req) {
-        if (email == null) throw new AccessDeniedException("로그인이 필요합니다.");
-        var post = postRepo.findById(postId).orElseThrow(() -> new IllegalArgumentException("게시물이 없습니다."));
-        var user = userRepo.findByEmail(email).orElseThrow();
-
-        var existing = reactionRepo.findByPost_IdAndUser_Id(postId, user.getId());
-        if (existing.isPresent()) {
-            var r = existing.get();
-            if (r.getType().name().equals(req.type().name())) {
-                reactionRepo.delete(r); // 같은 타입 재클릭 → 취소
-            } else {
-                r.setType(PostReaction.Type.valueOf(req.type().name()));
-            }
+    public SummaryRes toggle(Long postId, Long userId, ToggleReq req) {
+        if (userId == null) throw new AccessDeniedException("로그인이 필요합니다.");
+        if (req == null || req.type() == null) throw new IllegalArgumentException("type은 필수입니다.");
+        if (!postRepo.existsById(postId)) throw new IllegalArgumentException("게시물이 없습니다.");
+        var type = PostReaction.Type.valueOf(req.type().name());
+        var other = type == PostReaction.Type.LIKE ? PostReaction.Type.DISLIKE : PostReaction.Type.LIKE;
+
+        PostReaction.Type removed = null; // 집계에서 빠질 타입
+        PostReaction.Type added = null;   // 집계에 더해질 타입
+        String my = type.name();
+        if (reactionRepo.deleteIfType(postId, userId, type.name()) > 0) {
+            removed = type;                 // 같은 타입 재클릭 → 취소
+            my = null;
+        } else if (reactionRepo.switchType(postId, userId, type.name()) > 0) {
+            added = type;                   // 반대 타입 → 전환
+            removed = other;
+        } else if (insert(postId, userId, type)) {
+            added = type;                   // 신규
         } else {
-            var r = PostReaction.builder()
-                    .post(post).user(user)
-                    .type(PostReaction.Type.valueOf(req.type().name()))
-                    .build();
-            reactionRepo.save(r);
+            // 동시 요청이 먼저 넣은 반응이 남아 있음 — 그 상태를 응답
+            my = reactionRepo.findByPost_IdAndUser_Id(postId, userId)
+                    .map(r -> r.getType().name())
+                    .orElse(null);
+        }
+
+        if (added != null || removed != null) {
+            long likes = delta(PostReaction.Type.LIKE, added, removed);
+            long dislikes = delta(PostReaction.Type.DISLIKE, added, removed);
+            countRepo.increment(postId, likes, dislikes);
+            events.publishEvent(new Changed(postId, likes, dislikes));
         }
-        return summary(postId, email);
+        return counts(postId, my);
+    }
+
+    /* ===== helpers ===== */
+
+    /**
+     * 반응 추가 — 이미 있으면(동시 요청) false.
+     * 리포지토리(@Modifying) 대신 JdbcTemplate 으로 실행: 같은 트랜잭션 커넥션을 쓰면서도
+     * 예외가 JPA/리포지토리 트랜잭션을 rollback-only 로 만들지 않음. MySQL 은 중복 키 오류 시 그 문장만 되돌림.
+     */
+    private boolean insert(Long postId, Long userId, PostReaction.Type type) {
+        try {
+            return jdbc.update(INSERT_SQL, postId, userId, type.name()) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private SummaryRes counts(Long postId, String my) {
+        return countRepo.findById(postId)
+                .map(c -> new SummaryRes(c.getLikes(), c.getDislikes(), my))
+                .orElseGet(() -> new SummaryRes(0, 0, my));
+    }
+
+    private static long delta(PostReaction.Type of, PostReaction.Type added, PostReaction.Type removed) {
+        return (of == added ? 1 : 0) - (of == removed ? 1 : 0);
     }
 }
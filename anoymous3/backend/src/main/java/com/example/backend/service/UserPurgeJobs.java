@@ -0,0 +1,167 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.AdminDtos.UserPurgeJobRes;
+import com.example.backend.dto.PostDtos.PostRef;
+import com.example.backend.repo.CommentRepository;
+import com.example.backend.repo.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 삭제 후속 작업(글/댓글 연쇄 소프트 삭제) — 백그라운드 단일 스레드.
+ * - 작성자 글 id 를 키셋으로 chunk 개씩: 글 UPDATE 1회 + 댓글 UPDATE 1회를 한 트랜잭션으로(짧은 락)
+ * - 진행 상황은 메모리에 보관(최근 max-jobs 개), 관리자 API 로 조회
+ * - 재시작으로 중단돼도 다시 요청하면 남은 글부터 이어서 처리됨(이미 삭제된 글은 조회에서 빠짐)
+ */
+@Slf4j
+@Component
+public class UserPurgeJobs {
+
+    private static final class Job {
+        final long id;
+        final Long userId;
+        volatile String state = "QUEUED";
+        final AtomicLong posts = new AtomicLong();
+        final AtomicLong comments = new AtomicLong();
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+        volatile String error;
+
+        Job(long id, Long userId) {
+            this.id = id;
+            this.userId = userId;
+        }
+
+        UserPurgeJobRes toRes() {
+            return new UserPurgeJobRes(id, userId, state, posts.get(), comments.get(), startedAt, finishedAt, error);
+        }
+    }
+
+    private final PostRepository postRepo;
+    private final CommentRepository commentRepo;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate tx;
+    private final int chunk;
+    private final int maxJobs;
+
+    private final AtomicLong seq = new AtomicLong();
+    private final Map<Long, Job> jobs;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "user-purge");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public UserPurgeJobs(
+            PostRepository postRepo,
+            CommentRepository commentRepo,
+            ApplicationEventPublisher events,
+            TransactionTemplate transactionTemplate,
+            @Value("${admin.user-purge.chunk:500}") int chunk,
+            @Value("${admin.user-purge.max-jobs:100}") int maxJobs
+    ) {
+        this.postRepo = postRepo;
+        this.commentRepo = commentRepo;
+        this.events = events;
+        this.tx = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.chunk = Math.max(chunk, 1);
+        this.maxJobs = Math.max(maxJobs, 1);
+        this.jobs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Job> eldest) {
+                return size() > UserPurgeJobs.this.maxJobs;
+            }
+        };
+    }
+
+    /** 작업 등록 — 호출 트랜잭션이 있으면 커밋 후 시작(사용자 상태 변경이 먼저 보이도록) */
+    public UserPurgeJobRes submit(Long userId) {
+        Job job = new Job(seq.incrementAndGet(), userId);
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        worker.execute(() -> run(job));
+                    } else {
+                        job.state = "FAILED";
+                        job.error = "요청 트랜잭션이 롤백되었습니다.";
+                    }
+                }
+            });
+        } else {
+            worker.execute(() -> run(job));
+        }
+        return job.toRes();
+    }
+
+    public Optional<UserPurgeJobRes> find(Long jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId)).map(Job::toRes);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /* ===== 실행 ===== */
+
+    private void run(Job job) {
+        job.state = "RUNNING";
+        job.startedAt = Instant.now();
+        try {
+            long afterId = 0L;
+            while (!Thread.currentThread().isInterrupted()) {
+                Long last = purgeChunk(job, afterId);
+                if (last == null) break;
+                afterId = last;
+            }
+            job.state = "DONE";
+        } catch (RuntimeException e) {
+            job.state = "FAILED";
+            job.error = e.getMessage();
+            log.warn("user purge failed: userId={}, jobId={}", job.userId, job.id, e);
+        } finally {
+            job.finishedAt = Instant.now();
+        }
+        log.info("user purge {}: userId={}, posts={}, comments={}",
+                job.state, job.userId, job.posts.get(), job.comments.get());
+    }
+
+    /** 한 청크 처리(한 트랜잭션). 더 없으면 null, 있으면 마지막 글 id */
+    private Long purgeChunk(Job job, long afterId) {
+        return tx.execute(status -> {
+            List<PostRef> refs = postRepo.findRefsByAuthorId(job.userId, afterId, PageRequest.of(0, chunk));
+            if (refs.isEmpty()) return null;
+
+            List<Long> ids = refs.stream().map(PostRef::id).toList();
+            Instant now = Instant.now();
+            job.posts.addAndGet(postRepo.softDeleteByIdIn(ids, now));
+            job.comments.addAndGet(commentRepo.softDeleteAllByPostIdIn(ids, now));
+            // 검색 색인/목록 캐시 등은 커밋 후 이벤트로 정리
+            refs.forEach(r -> events.publishEvent(PostChangedEvent.deleted(r.id(), r.notice())));
+            return ids.get(ids.size() - 1);
+        });
+    }
+}
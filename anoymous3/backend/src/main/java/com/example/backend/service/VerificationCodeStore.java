@@ -0,0 +1,22 @@
+package com.example.backend.service;
+
+/**
+ * 이메일 인증 코드 저장소(AuthService 전용).
+ * auth.verification.store = memory(기본) | jpa
+ * - memory: 인스턴스 로컬 TTL 맵(DB 왕복 없음, 재시작/다중 인스턴스 간 공유 안 됨)
+ * - jpa: email_verifications 테이블(만료 행 주기 정리)
+ * 공통 설정: auth.verification.code-ttl(PT1H), verified-ttl(PT1H), max-attempts(5)
+ */
+public interface VerificationCodeStore {
+
+    enum Consume { OK, NOT_FOUND, EXPIRED }
+
+    /** 새 코드 발급(이전 코드/검증 상태/시도 횟수 초기화) */
+    void issue(String email, String code);
+
+    /** 코드 검증 — 만료, 없음, 시도 초과, 불일치면 false(불일치는 시도 횟수 증가) */
+    boolean verify(String email, String code);
+
+    /** 가입 시 검증 완료 여부 확인 후 소모(OK 일 때만 삭제, 호출 트랜잭션이 롤백되면 소모도 취소) */
+    Consume consumeVerified(String email);
+}
@@ -0,0 +1,92 @@
+// backend/src/main/java/com/example/backend/util/BloomFilter.java
+package com.example.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (락 없이 동시 put/mightContain 가능).
+ * - mightContain == false 면 "확실히 없음", true 면 "있을 수도 있음"(오탐률 fpp)
+ * - 삭제는 지원하지 않음(지워진 값은 오탐으로만 남음)
+ * 해시는 64비트 FNV-1a 하나를 두 개로 나눠 double hashing(Kirsch–Mitzenmacher).
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashes;
+    private final long capacity;
+    private final AtomicLong inserted = new AtomicLong();
+
+    /**
+     * @param expected 예상 원소 수(이 수를 넘으면 오탐률이 올라감)
+     * @param fpp      목표 오탐률(예: 0.01)
+     */
+    public BloomFilter(long expected, double fpp) {
+        long n = Math.max(expected, 1);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, (m + 63) / 64 * 64);
+        this.bitSize = m;
+        this.hashes = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (m / 64));
+        this.capacity = n;
+    }
+
+    public void put(String value) {
+        long h = hash(value);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long cur;
+            do {
+                cur = bits.get(word);
+                if ((cur & mask) != 0) break;
+            } while (!bits.compareAndSet(word, cur, cur | mask));
+        }
+        inserted.incrementAndGet();
+    }
+
+    public boolean mightContain(String value) {
+        long h = hash(value);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /** put 횟수가 설계 용량을 넘었는지(더 큰 필터로 재구성할 시점) */
+    public boolean isSaturated() {
+        return inserted.get() > capacity;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    private long index(int combined) {
+        // 음수 방지 후 비트 범위로
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        // 상·하위 32비트가 고르게 섞이도록 마무리 혼합(murmur3 fmix64)
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.util;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * java.util.zip 기반 raw deflate(헤더/체크섬 없음) 압축 유틸.
+ * 원본 길이는 호출 측이 따로 저장해 두고 해제 시 넘김(버퍼를 한 번에 잡기 위해).
+ */
+public final class Deflate {
+
+    private Deflate() {}
+
+    /** 압축 — 결과가 원본보다 작지 않으면 null(그대로 저장하는 편이 나음) */
+    public static byte[] compress(byte[] raw, int level) {
+        Deflater d = new Deflater(level, true);
+        try {
+            d.setInput(raw);
+            d.finish();
+            byte[] buf = new byte[raw.length];
+            int n = 0;
+            while (!d.finished() && n < buf.length) {
+                n += d.deflate(buf, n, buf.length - n);
+            }
+            return d.finished() && n < raw.length ? Arrays.copyOf(buf, n) : null;
+        } finally {
+            d.end();
+        }
+    }
+
+    /** 해제 — length 는 원본 바이트 수 */
+    public static byte[] decompress(byte[] packed, int length) {
+        Inflater inf = new Inflater(true);
+        try {
+            inf.setInput(packed);
+            byte[] out = new byte[length];
+            int n = 0;
+            while (n < length) {
+                int r = inf.inflate(out, n, length - n);
+                if (r == 0 && (inf.finished() || inf.needsInput() || inf.needsDictionary())) break;
+                n += r;
+            }
+            if (n != length) throw new IllegalStateException("손상된 압축 데이터입니다. (" + n + "/" + length + ")");
+            return out;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 압축 데이터입니다.", e);
+        } finally {
+            inf.end();
+        }
+    }
+}
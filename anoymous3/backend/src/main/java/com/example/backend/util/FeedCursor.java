@@ -0,0 +1,37 @@
+// backend/src/main/java/com/example/backend/util/FeedCursor.java
+package com.example.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서.
+ * - 마지막으로 내려준 행의 (createdAt, id)를 담아 다음 페이지의 seek 기준으로 사용
+ * - 클라이언트에는 불투명한 base64url 문자열로만 노출
+ */
+public record FeedCursor(Instant createdAt, Long id) {
+
+    private static final char SEP = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEP + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 문자열이면 첫 페이지(null), 형식이 깨졌으면 400 */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int i = raw.lastIndexOf(SEP);
+            if (i <= 0) throw new IllegalArgumentException("잘못된 커서입니다.");
+            return new FeedCursor(Instant.parse(raw.substring(0, i)), Long.parseLong(raw.substring(i + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 도 IllegalArgumentException 하위
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -8,7 +8,7 @@ import org.jsoup.safety.Safelist;
 /**
  * 서버 측 XSS 방지 유틸.
  * - safeHtml(html): 허용 태그만 남기고 모두 정화
- * - textToSafeHtml(text): 순수 텍스트를 안전한 HTML로(개행은 <br/>로 유지)
+ * - textToSafeHtml(text): 순수 텍스트를 안전한 HTML로(개행은 <br>로 유지, 정화까지 완료된 결과)
  * - markdownToSafeHtml(text): (간단버전) 마크다운 미파싱 -> 텍스트로 escape
  */
 public final class HtmlSanitizer {
@@ -17,7 +17,7 @@ public final class HtmlSanitizer {
 
     // 화이트리스트(기본 relaxed + 코드/프리태그, a 속성 강화)
     private static final Safelist SAFE_LIST = Safelist.relaxed()
-            .addTags("pre", "code", "hr")
+            .addTags("pre", "code", "hr", "del")
             .addAttributes("a", "target", "rel")
             .addProtocols("a", "href", "http", "https", "mailto");
 
@@ -42,14 +42,22 @@ public final class HtmlSanitizer {
     /** alias */
     public static String sanitizeHtml(String html) { return safeHtml(html); }
 
-    /** 순수 텍스트를 안전한 HTML로(개행 유지) */
+    /**
+     * 순수 텍스트를 안전한 HTML로(개행 유지).
+     * 대부분의 입력은 PlainTextEscaper 단일 패스로 끝나고, 마크업 후보가 있을 때만 Jsoup 경로를 탑니다.
+     */
     public static String textToSafeHtml(String text) {
         if (text == null) return "";
-        // 텍스트를 안전하게 escape
+        String fast = PlainTextEscaper.escape(text);
+        return fast != null ? fast : textToSafeHtmlDom(text);
+    }
+
+    /** Jsoup 경로: 텍스트 노드로 escape → 개행을 <br/>로 보존 → 화이트리스트 정화 */
+    static String textToSafeHtmlDom(String text) {
         Document shell = Document.createShell("");
+        shell.outputSettings().prettyPrint(false); // pretty print 는 개행을 공백으로 접어버림
         shell.body().appendText(text);
-        // 개행을 <br/>로 보존
-        return shell.body().html().replace("\n", "<br/>");
+        return safeHtml(shell.body().html().replace("\n", "<br/>"));
     }
 
     /** (간단 대체) 마크다운 텍스트를 안전한 HTML로 – 별도 파서 없이 escape 처리 */
@@ -1,25 +1,113 @@
 // backend/src/main/java/com/example/backend/util/MarkdownRenderer.java
 package com.example.backend.util;
 
+import com.vladsch.flexmark.ext.autolink.AutolinkExtension;
+import com.vladsch.flexmark.ext.gfm.strikethrough.StrikethroughExtension;
+import com.vladsch.flexmark.ext.tables.TablesExtension;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
- * 마크다운 → HTML 렌더러 (경량 버전).
- * 현재는 별도 파서를 쓰지 않고 텍스트를 안전한 HTML로 변환합니다.
- * 추후 commonmark/flexmark 등을 붙이면 여기서 실제 마크다운 파싱을 수행하세요.
+ * 마크다운 → HTML 렌더러 (flexmark).
+ * - Parser/HtmlRenderer 는 생성 후 불변이라 스레드 안전 → 정적 인스턴스 하나를 모든 요청이 공유
+ * - 원문 HTML 은 태그로 해석하지 않고 escape(기존 "텍스트 그대로" 동작 유지), 줄바꿈은 <br />
+ * - 렌더 결과는 화이트리스트 정화를 한 번만 거친 뒤 반환(호출부에서 다시 정화할 필요 없음)
+ * - 같은 본문 재렌더(수정 시 동일 내용 저장 등)는 내용 해시(SHA-256) 키 LRU 캐시로 흡수
+ * - 마크다운 문법이 없는 평문은 PlainTextEscaper 빠른 경로(결과 동일)
+ * 게시글은 renderPost: 예전 클라이언트 렌더(marked gfm+breaks)처럼 맨 URL/이메일도 링크로(autolink).
+ * 글 저장 시 한 번만 렌더하므로 캐시/빠른 경로 없음. 원문 HTML 은 댓글과 같이 escape(태그로 해석하지 않음).
  */
 public final class MarkdownRenderer {
 
     private MarkdownRenderer() {}
 
+    /** 캐시 최대 항목 수 */
+    private static final int CACHE_SIZE = 1024;
+    /** 이보다 긴 본문은 캐시하지 않음(히트율 대비 메모리 낭비) */
+    private static final int CACHE_MAX_CHARS = 20_000;
+
+    private static final Parser PARSER;
+    private static final HtmlRenderer RENDERER;
+    private static final Parser POST_PARSER;
+    private static final HtmlRenderer POST_RENDERER;
+
+    static {
+        MutableDataSet options = new MutableDataSet()
+                .set(Parser.EXTENSIONS, List.of(
+                        TablesExtension.create(),
+                        StrikethroughExtension.create()))
+                .set(HtmlRenderer.ESCAPE_HTML, true)
+                .set(HtmlRenderer.SOFT_BREAK, "<br />\n");
+        PARSER = Parser.builder(options).build();
+        RENDERER = HtmlRenderer.builder(options).build();
+
+        MutableDataSet postOptions = new MutableDataSet(options)
+                .set(Parser.EXTENSIONS, List.of(
+                        TablesExtension.create(),
+                        StrikethroughExtension.create(),
+                        AutolinkExtension.create()));
+        POST_PARSER = Parser.builder(postOptions).build();
+        POST_RENDERER = HtmlRenderer.builder(postOptions).build();
+    }
+
+    // 접근 순서 LRU (내용 해시 → 정화된 HTML)
+    private static final Map<String, String> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
     /**
      * 입력 마크다운을 HTML로 변환한 뒤 화이트리스트로 정화된 안전한 HTML을 반환합니다.
-     * 지금은 간단히 텍스트를 escape + 개행을 <br/>로 유지하는 형태입니다.
+     * 결과는 그대로 저장해도 됩니다.
      */
     public static String render(String markdown) {
-        if (markdown == null) return "";
-        // 1) 텍스트 → 안전한 HTML (개행 유지)
-        String html = HtmlSanitizer.textToSafeHtml(markdown);
-        // 2) (호환 유지를 위해) 한 번 더 화이트리스트 정화
-        return HtmlSanitizer.safeHtml(html);  // ← 기존 sanitize(...)를 safeHtml(...)로 교체
-        // 또는 HtmlSanitizer.sanitizeHtml(html) 사용 가능
+        if (markdown == null || markdown.isEmpty()) return "";
+        // 문법이 전혀 없는 평문 댓글은 파서/정화 없이 바로 문단 HTML로
+        String plain = PlainTextEscaper.paragraphs(markdown);
+        if (plain != null) return plain;
+        if (markdown.length() > CACHE_MAX_CHARS) return renderUncached(markdown);
+
+        String key = contentHash(markdown);
+        String cached = CACHE.get(key);
+        if (cached != null) return cached;
+
+        String html = renderUncached(markdown);
+        CACHE.put(key, html);
+        return html;
+    }
+
+    /** 게시글 본문 렌더(autolink 포함, 정화 1회) — 결과는 post_bodies 에 저장 */
+    public static String renderPost(String markdown) {
+        if (markdown == null || markdown.isEmpty()) return "";
+        return HtmlSanitizer.safeHtml(POST_RENDERER.render(POST_PARSER.parse(markdown)));
+    }
+
+    /** 캐시를 거치지 않는 렌더(파싱 → HTML → 정화 1회) */
+    static String renderUncached(String markdown) {
+        String html = RENDERER.render(PARSER.parse(markdown));
+        return HtmlSanitizer.safeHtml(html);
+    }
+
+    private static String contentHash(String s) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(s.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
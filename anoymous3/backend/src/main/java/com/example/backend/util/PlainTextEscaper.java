@@ -0,0 +1,120 @@
+package com.example.backend.util;
+
+/**
+ * 순수 텍스트 전용 단일 패스 escaper (DOM 미생성).
+ * - escape(text)     : 텍스트 → 안전한 HTML(개행은 <br>) — HtmlSanitizer.textToSafeHtml 의 빠른 경로
+ * - paragraphs(text) : 마크다운 문법이 전혀 없는 댓글 → flexmark+정화 결과와 같은 문단 HTML
+ * 판단이 애매한 문자(태그/엔티티 후보, 제어문자, NBSP, 깨진 서로게이트 등)가 있으면 null 을 돌려주고,
+ * 호출부가 Jsoup/flexmark 경로로 되돌아갑니다.
+ */
+public final class PlainTextEscaper {
+
+    private PlainTextEscaper() {}
+
+    /**
+     * 텍스트를 안전한 HTML로 변환합니다. 개행은 &lt;br&gt; 로 유지합니다.
+     * '&lt;', '&amp;' 등 마크업 후보가 있으면 null (Jsoup 경로 사용).
+     * 바꿀 문자가 하나도 없으면 입력 문자열을 그대로 반환합니다(추가 할당 없음).
+     */
+    public static String escape(String text) {
+        if (text == null) return "";
+        int n = text.length();
+        StringBuilder sb = null;
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            String rep;
+            if (c == '\n') {
+                rep = "<br>";
+            } else if (c == '>') {
+                rep = "&gt;";
+            } else if (c == '<' || c == '&' || !isPlainChar(text, i, n)) {
+                return null;
+            } else {
+                if (Character.isHighSurrogate(c)) {
+                    if (sb != null) sb.append(c);
+                    c = text.charAt(++i);
+                }
+                if (sb != null) sb.append(c);
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(n + 16);
+                sb.append(text, 0, i);
+            }
+            sb.append(rep);
+        }
+        return sb == null ? text : sb.toString();
+    }
+
+    /**
+     * 마크다운 문법이 없는 텍스트를 문단 HTML로 변환합니다.
+     * 빈 줄은 문단 구분, 그 외 개행은 &lt;br&gt; — MarkdownRenderer 의 flexmark 경로 결과와 동일.
+     * 줄머리 블록 문법(목록/제목/인용/들여쓰기), 인라인 강조/링크/코드, 줄끝 공백(하드 브레이크),
+     * HTML/엔티티 후보가 하나라도 있으면 null.
+     */
+    public static String paragraphs(String text) {
+        if (text == null) return "";
+        int n = text.length();
+        StringBuilder sb = null;
+        boolean inPara = false;
+        int i = 0;
+        while (i < n) {
+            int eol = text.indexOf('\n', i);
+            if (eol < 0) eol = n;
+            if (eol == i) {
+                if (inPara) {
+                    sb.append("</p>\n");
+                    inPara = false;
+                }
+                i = eol + 1;
+                continue;
+            }
+            if (!isPlainLine(text, i, eol)) return null;
+            if (sb == null) sb = new StringBuilder(n + 32);
+            sb.append(inPara ? "<br>\n" : "<p>");
+            sb.append(text, i, eol);
+            inPara = true;
+            i = eol + 1;
+        }
+        if (inPara) sb.append("</p>\n");
+        return sb == null ? "" : sb.toString();
+    }
+
+    /** [from, to) 한 줄이 블록/인라인 마크다운 문법 없이 그대로 출력 가능한지 */
+    private static boolean isPlainLine(String s, int from, int to) {
+        char first = s.charAt(from);
+        switch (first) {
+            case ' ', '#', '>', '-', '+', '=' -> { return false; }
+            default -> { }
+        }
+        if (first >= '0' && first <= '9') {
+            int j = from;
+            while (j < to && s.charAt(j) >= '0' && s.charAt(j) <= '9') j++;
+            if (j < to && (s.charAt(j) == '.' || s.charAt(j) == ')')) return false; // 번호 목록
+        }
+        if (s.charAt(to - 1) == ' ') return false; // 줄끝 공백(하드 브레이크/트림)
+
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\\', '`', '*', '_', '[', ']', '<', '>', '&', '~', '|' -> { return false; }
+                default -> { }
+            }
+            if (!isPlainChar(s, i, to)) return false;
+            if (Character.isHighSurrogate(c)) i++;
+        }
+        return true;
+    }
+
+    /** 그대로 출력해도 Jsoup 출력과 같아지는 문자인지(제어문자/NBSP/깨진 서로게이트 제외) */
+    private static boolean isPlainChar(String s, int i, int end) {
+        char c = s.charAt(i);
+        if (c < 0x20) return false;
+        if (c >= 0x7F && c <= 0xA0) return false;
+        if (Character.isLowSurrogate(c)) return false;
+        if (Character.isHighSurrogate(c)) {
+            return i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.util;
+
+import java.util.Locale;
+
+/**
+ * 페이지 응답의 전체 개수 계산 방식(?total=).
+ * - exact  : count(*) 쿼리로 정확한 전체 개수(기본)
+ * - approx : 증분 갱신되는 개수 캐시 값(주기 보정) — count 쿼리 없음
+ * - none   : 전체 개수 없이 Slice(다음 페이지 존재 여부만, size+1 조회)
+ */
+public enum TotalMode {
+    EXACT, APPROX, NONE;
+
+    /** null/빈 값이면 EXACT, 모르는 값이면 400 */
+    public static TotalMode of(String value) {
+        if (value == null || value.isBlank()) return EXACT;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("total 은 exact, approx, none 중 하나여야 합니다.");
+        }
+    }
+}
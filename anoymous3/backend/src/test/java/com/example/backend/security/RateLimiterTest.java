@@ -0,0 +1,139 @@
+package com.example.backend.security;
+
+import com.example.backend.security.RateLimiter.Decision;
+import com.example.backend.security.RateLimiter.Route;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 판정(버스트/재시도 시간/회복)과 경로 분류 — 시계는 테스트에서 직접 진행.
+ */
+class RateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private RateLimiter limiter;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        // login: 3/PT30S → 10초 간격, 버스트 3
+        limiter = new RateLimiter(true, 4, "3/PT30S", "5/PT10M", "20/PT10M", "60/PT1M", "30/PT1M", meters);
+        now = 1_000 * SECOND;
+        limiter.clock = () -> now;
+    }
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(Route.LOGIN, "ip1").admitted()).isTrue();
+        }
+        Decision d = limiter.tryAcquire(Route.LOGIN, "ip1");
+        assertThat(d.admitted()).isFalse();
+        assertThat(d.retryAfterMillis()).isEqualTo(10_000);
+
+        now += 4 * SECOND;
+        assertThat(limiter.tryAcquire(Route.LOGIN, "ip1").retryAfterMillis()).isEqualTo(6_000);
+
+        assertThat(meters.get("http.admission").tag("route", "login").tag("result", "admitted").counter().count()).isEqualTo(3);
+        assertThat(meters.get("http.admission").tag("route", "login").tag("result", "rejected").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(Route.LOGIN, "ip1");
+
+        now += 10 * SECOND;
+        assertThat(limiter.tryAcquire(Route.LOGIN, "ip1").admitted()).isTrue();
+        assertThat(limiter.tryAcquire(Route.LOGIN, "ip1").admitted()).isFalse();
+
+        // 충분히 쉬면 버스트 전체 회복(그 이상 쌓이지는 않음)
+        now += 300 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(Route.LOGIN, "ip1").admitted()).isTrue();
+        }
+        assertThat(limiter.tryAcquire(Route.LOGIN, "ip1").admitted()).isFalse();
+    }
+
+    @Test
+    void keysAreIndependentPerRouteAndClient() {
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(Route.LOGIN, "ip1");
+        assertThat(limiter.tryAcquire(Route.LOGIN, "ip1").admitted()).isFalse();
+        assertThat(limiter.tryAcquire(Route.LOGIN, "ip2").admitted()).isTrue();
+        assertThat(limiter.tryAcquire(Route.WRITE, "ip1").admitted()).isTrue();
+    }
+
+    @Test
+    void sweepDropsOnlyFullBucketsAndKeysStayBounded() {
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(Route.LOGIN, "busy");
+        limiter.tryAcquire(Route.WRITE, "idle");
+
+        now += 5 * SECOND; // idle(2초 간격)은 다 참, busy 는 아직
+        limiter.sweep();
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire(Route.LOGIN, "busy").admitted()).isFalse();
+
+        for (int i = 0; i < 20; i++) limiter.tryAcquire(Route.REACTION, "ip" + i);
+        assertThat(limiter.size()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void trimNeverEvictsThrottledBucketsAndDropsMostRecoveredFirst() {
+        // write: 30/PT1M → 2초 간격, 허용 오차 58초
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(Route.LOGIN, "abuser"); // 거절 중(다음 허용 10초 뒤)
+        for (int i = 0; i < 2; i++) limiter.tryAcquire(Route.WRITE, "old");    // 가장 많이 회복됨
+        now += SECOND;
+        for (int i = 0; i < 2; i++) limiter.tryAcquire(Route.WRITE, "mid");
+        now += SECOND;
+        for (int i = 0; i < 2; i++) limiter.tryAcquire(Route.WRITE, "new");
+
+        limiter.tryAcquire(Route.WRITE, "extra"); // 5개 > 4 → 1개 정리(old)
+        assertThat(limiter.size()).isEqualTo(4);
+        assertThat(limiter.tryAcquire(Route.LOGIN, "abuser").admitted()).isFalse();
+        // mid/new 는 상태 그대로(새 버킷이면 30회) → 2회씩 쓴 만큼 28회
+        assertThat(admittedInARow(Route.WRITE, "mid")).isEqualTo(28);
+        assertThat(admittedInARow(Route.WRITE, "new")).isEqualTo(28);
+
+        // 남은 게 전부 거절 중이면 지우지 않고 상한을 잠시 넘김
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) limiter.tryAcquire(Route.LOGIN, "ip" + i);
+        }
+        assertThat(limiter.size()).isEqualTo(6);
+        assertThat(limiter.tryAcquire(Route.LOGIN, "abuser").admitted()).isFalse();
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(Route.LOGIN, "ip" + i).admitted()).isFalse();
+        }
+    }
+
+    @Test
+    void classifiesRoutes() {
+        assertThat(Route.of("POST", "/api/auth/login")).isEqualTo(Route.LOGIN);
+        assertThat(Route.of("POST", "/api/auth/send-code")).isEqualTo(Route.SEND_CODE);
+        assertThat(Route.of("POST", "/api/auth/signup")).isEqualTo(Route.SIGNUP);
+        assertThat(Route.of("POST", "/api/auth/verify-code")).isEqualTo(Route.SIGNUP);
+        assertThat(Route.of("POST", "/api/posts/12/reactions")).isEqualTo(Route.REACTION);
+        assertThat(Route.of("POST", "/api/posts")).isEqualTo(Route.WRITE);
+        assertThat(Route.of("PUT", "/api/posts/12")).isEqualTo(Route.WRITE);
+        assertThat(Route.of("DELETE", "/api/comments/3")).isEqualTo(Route.WRITE);
+        assertThat(Route.of("POST", "/api/posts/12/comments")).isEqualTo(Route.WRITE);
+
+        assertThat(Route.of("GET", "/api/auth/login")).isNull();
+        assertThat(Route.of("GET", "/api/posts/12/reactions")).isNull();
+        assertThat(Route.of("GET", "/api/posts")).isNull();
+        assertThat(Route.of("HEAD", "/api/posts")).isNull();
+        assertThat(Route.of("OPTIONS", "/api/posts")).isNull();
+        assertThat(Route.of("POST", "/api/admin/users")).isNull();
+    }
+
+    private int admittedInARow(Route route, String client) {
+        int n = 0;
+        while (limiter.tryAcquire(route, client).admitted()) n++;
+        return n;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.CommentDtos.CommentContent;
+import com.example.backend.dto.CommentDtos.CommentLink;
+import com.example.backend.dto.CommentDtos.CommentNode;
+import com.example.backend.dto.CommentDtos.CommentTreeRes;
+import com.example.backend.util.FeedCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 댓글 트리 조립/페이지 — DB 대신 연결 정보 목록과 본문 조회 스텁(요청된 id 묶음을 기록).
+ */
+class CommentTreeTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final List<CommentLink> rows = new ArrayList<>();
+    private final List<List<Long>> loads = new ArrayList<>();
+
+    @Test
+    void keepsDeletedParentAsPlaceholderOnlyWhileRepliesLive() {
+        link(1, null, false);
+        link(2, 1, true);   // 삭제, 살아 있는 답글 있음 → 자리표시
+        link(3, 2, false);
+        link(4, 1, true);   // 삭제된 잎 → 제거
+        link(5, null, true); // 삭제, 답글도 삭제 → 스레드째 제거
+        link(6, 5, true);
+
+        CommentTreeRes res = tree().roots(null, 20, 10, 5);
+
+        assertThat(res.items()).extracting(CommentNode::id).containsExactly(1L);
+        assertThat(res.totalThreads()).isEqualTo(1);
+        assertThat(res.totalComments()).isEqualTo(2);
+
+        CommentNode placeholder = res.items().get(0).replies().get(0);
+        assertThat(res.items().get(0).replies()).hasSize(1);
+        assertThat(placeholder.id()).isEqualTo(2L);
+        assertThat(placeholder.deleted()).isTrue();
+        assertThat(placeholder.authorActivityId()).isNull();
+        assertThat(placeholder.contentRaw()).isNull();
+        assertThat(placeholder.contentHtml()).isNull();
+        assertThat(placeholder.replies()).extracting(CommentNode::contentRaw).containsExactly("raw-3");
+
+        // 삭제된 댓글의 본문은 읽지 않음
+        assertThat(loads).containsExactly(List.of(1L, 3L));
+    }
+
+    @Test
+    void orphanRowsBecomeRoots() {
+        link(1, null, false);
+        link(2, 99, false); // 부모가 목록에 없음
+
+        CommentTreeRes res = tree().roots(null, 20, 10, 5);
+
+        assertThat(res.items()).extracting(CommentNode::id).containsExactly(1L, 2L);
+        assertThat(res.items().get(1).parentId()).isNull();
+    }
+
+    @Test
+    void pagesThreadsByCursorAndLoadsOnlyThatPage() {
+        for (long id = 1; id <= 5; id++) link(id, null, false);
+        CommentTree tree = tree();
+
+        CommentTreeRes first = tree.roots(null, 2, 10, 5);
+        assertThat(first.items()).extracting(CommentNode::id).containsExactly(1L, 2L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.totalThreads()).isEqualTo(5);
+        assertThat(FeedCursor.decode(first.nextCursor())).isEqualTo(new FeedCursor(at(2), 2L));
+
+        CommentTreeRes second = tree.roots(FeedCursor.decode(first.nextCursor()), 2, 10, 5);
+        assertThat(second.items()).extracting(CommentNode::id).containsExactly(3L, 4L);
+
+        CommentTreeRes last = tree.roots(FeedCursor.decode(second.nextCursor()), 2, 10, 5);
+        assertThat(last.items()).extracting(CommentNode::id).containsExactly(5L);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+
+        assertThat(loads).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    }
+
+    @Test
+    void cursorOrdersByIdWithinSameTimestamp() {
+        rows.add(new CommentLink(1L, null, T0, 0, false));
+        rows.add(new CommentLink(2L, null, T0, 0, false));
+        rows.add(new CommentLink(3L, null, T0, 0, false));
+
+        CommentTreeRes res = tree().roots(new FeedCursor(T0, 1L), 20, 10, 5);
+
+        assertThat(res.items()).extracting(CommentNode::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void truncatesRepliesAndCountsTheRest() {
+        link(1, null, false);
+        for (long id = 2; id <= 6; id++) link(id, 1, false); // 직계 답글 5개
+        link(7, 2, false);
+        link(8, 7, false); // 깊이 제한 밖
+
+        CommentTreeRes res = tree().roots(null, 20, 3, 2);
+
+        CommentNode root = res.items().get(0);
+        assertThat(root.replies()).extracting(CommentNode::id).containsExactly(2L, 3L, 4L);
+        assertThat(root.moreReplies()).isEqualTo(2);
+
+        CommentNode child = root.replies().get(0);
+        assertThat(child.replies()).extracting(CommentNode::id).containsExactly(7L);
+        assertThat(child.moreReplies()).isZero();
+
+        CommentNode grandChild = child.replies().get(0);
+        assertThat(grandChild.replies()).isEmpty();
+        assertThat(grandChild.moreReplies()).isEqualTo(1);
+
+        assertThat(loads).containsExactly(List.of(1L, 2L, 7L, 3L, 4L));
+    }
+
+    @Test
+    void pagesDirectRepliesOfOneComment() {
+        link(1, null, false);
+        for (long id = 2; id <= 6; id++) link(id, 1, false);
+        link(7, 6, false);
+        CommentTree tree = tree();
+
+        CommentTreeRes first = tree.replies(1L, null, 3, 1, 1);
+        assertThat(first.items()).extracting(CommentNode::id).containsExactly(2L, 3L, 4L);
+        assertThat(first.totalThreads()).isEqualTo(5);
+        assertThat(first.hasNext()).isTrue();
+
+        CommentTreeRes rest = tree.replies(1L, FeedCursor.decode(first.nextCursor()), 3, 1, 1);
+        assertThat(rest.items()).extracting(CommentNode::id).containsExactly(5L, 6L);
+        assertThat(rest.hasNext()).isFalse();
+        assertThat(rest.items().get(1).replies()).extracting(CommentNode::id).containsExactly(7L);
+    }
+
+    @Test
+    void repliesRejectUnknownOrDroppedComments() {
+        link(1, null, false);
+        link(2, null, true);
+        CommentTree tree = tree();
+
+        assertThatThrownBy(() -> tree.replies(2L, null, 20, 3, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.replies(42L, null, 20, 3, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /* ===== helpers ===== */
+
+    /** id 순서 = 작성 순서(1초 간격) */
+    private void link(long id, Integer parentId, boolean deleted) {
+        int depth = parentId == null ? 0 : 1;
+        rows.add(new CommentLink(id, parentId == null ? null : parentId.longValue(), at(id), depth, deleted));
+    }
+
+    private CommentTree tree() {
+        return CommentTree.of(rows, this::load);
+    }
+
+    private List<CommentContent> load(Collection<Long> ids) {
+        loads.add(List.copyOf(ids));
+        return ids.stream().map(id -> new CommentContent(id, "user-" + id, "raw-" + id, "<p>raw-" + id + "</p>")).toList();
+    }
+
+    private static Instant at(long id) {
+        return T0.plusSeconds(id);
+    }
+}
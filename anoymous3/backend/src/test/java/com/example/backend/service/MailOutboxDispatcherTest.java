@@ -0,0 +1,151 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.MailOutbox;
+import com.example.backend.repo.MailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 아웃박스 디스패처 — 메일 서버 대신 JavaMailSender 스텁(수신자에 "bad" 가 들어가면 그 건만 실패).
+ * 디스패처가 자체 트랜잭션으로 클레임/반영하므로 테스트 트랜잭션은 쓰지 않음.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:outbox;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MailOutboxDispatcherTest {
+
+    private static final Duration BACKOFF = Duration.ofSeconds(30);
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Autowired MailOutboxRepository outboxRepo;
+    @Autowired PlatformTransactionManager txManager;
+
+    private final StubMailSender sender = new StubMailSender();
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepo.deleteAll();
+        dispatcher = new MailOutboxDispatcher(outboxRepo, sender, new TransactionTemplate(txManager),
+                10, MAX_ATTEMPTS, BACKOFF, Duration.ofHours(1), Duration.ofMinutes(2), Duration.ofDays(7), "noreply@anoy.test");
+    }
+
+    @Test
+    void sendsWholeBatchInOneCallAndBlanksBodies() {
+        Long a = enqueue("a@x.test");
+        Long b = enqueue("b@x.test");
+        Long c = enqueue("c@x.test");
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(3);
+
+        assertThat(sender.calls).hasSize(1);
+        assertThat(sender.calls.get(0)).extracting(m -> m.getTo()[0]).containsExactly("a@x.test", "b@x.test", "c@x.test");
+        for (Long id : List.of(a, b, c)) {
+            MailOutbox m = outboxRepo.findById(id).orElseThrow();
+            assertThat(m.getStatus()).isEqualTo(MailOutbox.Status.SENT);
+            assertThat(m.getAttempts()).isEqualTo(1);
+            assertThat(m.getSentAt()).isNotNull();
+            assertThat(m.getClaimToken()).isNull();
+            assertThat(m.getBody()).isEmpty();
+        }
+        assertThat(dispatcher.dispatchBatch()).isZero();
+    }
+
+    @Test
+    void retriesOnlyFailedMessagesWithBackoff() {
+        Long ok = enqueue("ok@x.test");
+        Long bad = enqueue("bad@x.test");
+
+        Instant before = Instant.now();
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(2);
+
+        assertThat(outboxRepo.findById(ok).orElseThrow().getStatus()).isEqualTo(MailOutbox.Status.SENT);
+        MailOutbox failed = outboxRepo.findById(bad).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(MailOutbox.Status.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("rejected");
+        assertThat(failed.getBody()).isNotEmpty();
+        // base * 2^0 ± 20%
+        assertThat(Duration.between(before, failed.getNextAttemptAt()).toMillis())
+                .isCloseTo(BACKOFF.toMillis(), within(BACKOFF.toMillis() / 5 + 1_000));
+
+        // 백오프 중에는 다시 가져가지 않음
+        assertThat(dispatcher.dispatchBatch()).isZero();
+        assertThat(sender.calls).hasSize(1);
+
+        makeDue(bad);
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+        assertThat(sender.calls.get(1)).extracting(m -> m.getTo()[0]).containsExactly("bad@x.test");
+    }
+
+    @Test
+    void deadLettersAfterMaxAttemptsAndBlanksBody() {
+        Long bad = enqueue("bad@x.test");
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            makeDue(bad);
+            assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+        }
+
+        MailOutbox dead = outboxRepo.findById(bad).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(MailOutbox.Status.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(dead.getClaimToken()).isNull();
+        assertThat(dead.getBody()).isEmpty();
+
+        makeDue(bad);
+        assertThat(dispatcher.dispatchBatch()).isZero();
+        assertThat(sender.calls).hasSize(MAX_ATTEMPTS);
+    }
+
+    /* ===== helpers ===== */
+
+    private Long enqueue(String to) {
+        return outboxRepo.save(MailOutbox.builder()
+                .recipient(to)
+                .subject("[어노이] 이메일 인증 코드")
+                .body("인증 코드: 123456")
+                .build()).getId();
+    }
+
+    private void makeDue(Long id) {
+        MailOutbox m = outboxRepo.findById(id).orElseThrow();
+        m.setNextAttemptAt(Instant.now().minusSeconds(1));
+        outboxRepo.save(m);
+    }
+
+    /** send(배열) 호출을 기록, 수신자에 "bad" 가 있는 메시지만 MailSendException 의 실패 목록으로 */
+    static class StubMailSender extends JavaMailSenderImpl {
+        final List<List<SimpleMailMessage>> calls = new ArrayList<>();
+
+        @Override
+        public void send(SimpleMailMessage... messages) {
+            calls.add(List.of(messages));
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            for (SimpleMailMessage m : messages) {
+                if (m.getTo()[0].contains("bad")) failed.put(m, new IllegalStateException("550 mailbox rejected"));
+            }
+            if (!failed.isEmpty()) throw new MailSendException(failed);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 렌더 결과 고정 — 서버 HTML 이 예전 클라이언트 렌더(marked gfm+breaks)를 대신하므로
+ * 줄바꿈/자동 링크/표/취소선과 원문 HTML escape, 위험 링크 제거를 출력 그대로 확인.
+ */
+class MarkdownRendererTest {
+
+    private static final String LINK_ATTRS = " rel=\"nofollow noopener noreferrer\" target=\"_blank\"";
+
+    @Test
+    void postKeepsLineBreaksAndAutolinksBareUrls() {
+        assertThat(MarkdownRenderer.renderPost("# 제목\n\n첫 줄\n둘째 줄 https://example.com/a?b=1&c=2 끝"))
+                .isEqualTo("<h1>제목</h1>\n<p>첫 줄<br>\n둘째 줄 <a href=\"https://example.com/a?b=1&amp;c=2\"" + LINK_ATTRS
+                        + ">https://example.com/a?b=1&amp;c=2</a> 끝</p>\n");
+        assertThat(MarkdownRenderer.renderPost("메일 me@example.com, 사이트 www.example.org"))
+                .isEqualTo("<p>메일 <a href=\"mailto:me@example.com\"" + LINK_ATTRS + ">me@example.com</a>, 사이트 "
+                        + "<a href=\"http://www.example.org\"" + LINK_ATTRS + ">www.example.org</a></p>\n");
+    }
+
+    @Test
+    void postRendersGfmTablesAndStrikethrough() {
+        assertThat(MarkdownRenderer.renderPost("| a | b |\n|---|---|\n| 1 | 2 |"))
+                .isEqualTo("<table>\n<thead>\n<tr><th>a</th><th>b</th></tr>\n</thead>\n<tbody>\n"
+                        + "<tr><td>1</td><td>2</td></tr>\n</tbody>\n</table>\n");
+        assertThat(MarkdownRenderer.renderPost("**굵게** ~~취소~~ `https://code.test`"))
+                .isEqualTo("<p><strong>굵게</strong> <del>취소</del> <code>https://code.test</code></p>\n");
+    }
+
+    @Test
+    void postEscapesRawHtmlAndDropsUnsafeLinks() {
+        assertThat(MarkdownRenderer.renderPost("안녕 <b onclick=\"x()\">굵게</b>"))
+                .isEqualTo("<p>안녕 &lt;b onclick=\"x()\"&gt;굵게&lt;/b&gt;</p>\n");
+        assertThat(MarkdownRenderer.renderPost("[링크](javascript:alert(1)) <https://x.test>"))
+                .isEqualTo("<p>링크 <a href=\"https://x.test\"" + LINK_ATTRS + ">https://x.test</a></p>\n");
+    }
+
+    @Test
+    void commentsDoNotAutolink() {
+        assertThat(MarkdownRenderer.render("참고 https://example.com **굵게**"))
+                .isEqualTo("<p>참고 https://example.com <strong>굵게</strong></p>\n");
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 무작위 입력으로 빠른 경로와 Jsoup/flexmark 경로의 결과가 같은지 확인(속성 기반).
+ * 빠른 경로가 null(= 폴백)을 돌려준 입력은 비교 대상에서 빠짐.
+ */
+class PlainTextEscaperTest {
+
+    private static final int CASES = 20_000;
+
+    /** 평문 댓글에 흔한 문자 */
+    private static final String[] PLAIN = {
+            "a", "Z", "q", "가", "힣", "ㅋㅋ", "한글", "0", "7", "2024", " ", " ", "\n", "\n\n",
+            ".", ",", "!", "?", "(", ")", ":", ";", "'", "\"", "/", "@", "%", "$", "^", "{", "}",
+            "😀", "👍🏻", "é", "©", "→", "\u3000", "\u2028"
+    };
+
+    /** 마크업/경계 문자 */
+    private static final String[] WILD = {
+            "<", ">", "&", "&amp;", "<b>", "</p>", "*", "_", "`", "~", "|", "\\", "[", "]", "#", "-", "+", "=",
+            "1. ", "2) ", "> ", "  ", "    ", "\t", "\r", "\r\n", "\u00A0", "\u0000", "\u0001", "\u007F",
+            "\uFEFF", "\uD83D", "\uDE00", "https://example.com", "www.example.com"
+    };
+
+    @Test
+    void escapeMatchesJsoupPath() {
+        Random rnd = new Random(20240518L);
+        int fast = 0;
+        for (int i = 0; i < CASES; i++) {
+            String text = randomText(rnd, i % 4 == 0);
+            String out = PlainTextEscaper.escape(text);
+            if (out == null) continue;
+            fast++;
+            assertThat(out).as("input=%s", escapeJava(text)).isEqualTo(HtmlSanitizer.textToSafeHtmlDom(text));
+        }
+        assertThat(fast).isGreaterThan(CASES / 2);
+    }
+
+    @Test
+    void paragraphsMatchMarkdownPath() {
+        Random rnd = new Random(20240519L);
+        int fast = 0;
+        for (int i = 0; i < CASES; i++) {
+            String text = randomText(rnd, i % 4 == 0);
+            String out = PlainTextEscaper.paragraphs(text);
+            if (out == null) continue;
+            fast++;
+            assertThat(out).as("input=%s", escapeJava(text)).isEqualTo(MarkdownRenderer.renderUncached(text));
+        }
+        assertThat(fast).isGreaterThan(CASES / 4);
+    }
+
+    @Test
+    void textToSafeHtmlKeepsLineBreaksAndEscapes() {
+        assertThat(HtmlSanitizer.textToSafeHtml("a\nb > c")).isEqualTo("a<br>b &gt; c");
+        assertThat(HtmlSanitizer.textToSafeHtml("<b>x</b> & y")).isEqualTo("&lt;b&gt;x&lt;/b&gt; &amp; y");
+        assertThat(PlainTextEscaper.paragraphs("첫 줄\n둘째 줄\n\n새 문단")).isEqualTo("<p>첫 줄<br>\n둘째 줄</p>\n<p>새 문단</p>\n");
+        assertThat(PlainTextEscaper.paragraphs("**굵게**")).isNull();
+    }
+
+    private static String randomText(Random rnd, boolean wild) {
+        int len = 1 + rnd.nextInt(40);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < len; i++) {
+            String[] pool = wild && rnd.nextInt(3) == 0 ? WILD : PLAIN;
+            sb.append(pool[rnd.nextInt(pool.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String escapeJava(String s) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : s.toCharArray()) {
+            if (c < 0x20 || c > 0x7E) sb.append(String.format("\\u%04X", (int) c));
+            else sb.append(c);
+        }
+        return sb.toString();
+    }
+}